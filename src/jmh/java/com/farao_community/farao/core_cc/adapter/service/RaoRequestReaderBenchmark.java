@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways a launch gets the document IDs of its timestamp from a business day RAOREQUEST file of 24 items:
+ * streaming the file until the matching item, indexing the whole file, and looking up an already indexed file.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RaoRequestReaderBenchmark {
+    private static final OffsetDateTime BUSINESS_DAY = OffsetDateTime.of(2024, 6, 18, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"0", "12", "23"})
+    private int hour;
+
+    private final RaoRequestReader raoRequestReader = new RaoRequestReader();
+    private byte[] raoRequestContent;
+    private Instant timestamp;
+    private RaoRequestIndex index;
+
+    @Setup
+    public void setUp() throws XMLStreamException, RaoRequestImportException {
+        raoRequestContent = buildBusinessDayRaoRequest().getBytes(StandardCharsets.UTF_8);
+        timestamp = BUSINESS_DAY.plusHours(hour).plusMinutes(30).toInstant();
+        index = raoRequestReader.readIndex(new ByteArrayInputStream(raoRequestContent));
+    }
+
+    @Benchmark
+    public Optional<List<String>> streamUntilMatchingItem() throws XMLStreamException {
+        return raoRequestReader.readDocumentIds(new ByteArrayInputStream(raoRequestContent), timestamp);
+    }
+
+    @Benchmark
+    public Optional<List<String>> indexWholeFile() throws XMLStreamException, RaoRequestImportException {
+        return raoRequestReader.readIndex(new ByteArrayInputStream(raoRequestContent)).getDocumentIds(timestamp);
+    }
+
+    @Benchmark
+    public Optional<List<String>> lookUpIndexedFile() {
+        return index.getDocumentIds(timestamp);
+    }
+
+    private static String buildBusinessDayRaoRequest() {
+        final StringBuilder content = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <RequestMessage xmlns="http://iec.ch/TC57/2011/schema/message" xmlns:req="http://unicorn.com/Request/request-payload">
+                    <Header>
+                        <Verb>created</Verb>
+                        <Noun>OptimizedRemedialActions</Noun>
+                        <Timestamp>2024-06-17T15:00:00Z</Timestamp>
+                        <Source>CORESO</Source>
+                    </Header>
+                    <Payload>
+                        <req:RequestItems timeInterval="2024-06-18T00:00Z/2024-06-19T00:00Z">
+                """);
+        for (int itemHour = 0; itemHour < 24; itemHour++) {
+            final OffsetDateTime start = BUSINESS_DAY.plusHours(itemHour);
+            content.append("""
+                            <req:RequestItem timeInterval="%s/%s">
+                                <req:Files>
+                                    <req:File code="CGM" url="documentIdentification://cgm-document-id-%02d"/>
+                                    <req:File code="GLSK" url="documentIdentification://glsk-document-id"/>
+                                    <req:File code="CBCORA" url="documentIdentification://cbcora-document-id"/>
+                                    <req:File code="REFPROG" url="documentIdentification://refprog-document-id"/>
+                                    <req:File code="CFG_RAO" url="documentIdentification://cfg-rao-document-id"/>
+                                </req:Files>
+                                <req:Parameters>
+                                    <req:ParameterGroup name="RAO">
+                                        <req:Parameter key="maxCurativeRa" value="10"/>
+                                    </req:ParameterGroup>
+                                </req:Parameters>
+                            </req:RequestItem>
+                    """.formatted(start, start.plusHours(1), itemHour));
+        }
+        content.append("""
+                        </req:RequestItems>
+                    </Payload>
+                </RequestMessage>
+                """);
+        return content.toString();
+    }
+}
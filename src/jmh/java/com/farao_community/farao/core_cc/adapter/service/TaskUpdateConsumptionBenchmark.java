@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.AutoLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.PartitionConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.RunHistoryConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskViewConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the number of task updates per second the adapter handles when they are received one by one
+ * and when they are received in batches, during an upload burst: each timestamp of a business day receives
+ * several updates in a row. An operation ends once the latest update of every timestamp has been handled.
+ * Only the adapter side is measured, the broker round trips saved by batch acknowledgement come on top.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(TaskUpdateConsumptionBenchmark.UPDATES_PER_BURST)
+public class TaskUpdateConsumptionBenchmark {
+    static final int UPDATES_PER_BURST = 1200;
+    private static final int TIMESTAMPS = 24;
+    private static final OffsetDateTime BUSINESS_DAY = OffsetDateTime.parse("2024-06-18T00:30Z");
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private final Set<TaskDto> latestUpdatesToHandle = ConcurrentHashMap.newKeySet();
+    private JobLauncherAutoService jobLauncherAutoService;
+    private List<TaskDto> burst;
+    private List<TaskDto> latestUpdates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RecentTaskView recentTaskView = new RecentTaskView(new TaskViewConfiguration(200, Duration.ofSeconds(30)), meterRegistry) {
+            @Override
+            public void update(final TaskDto taskDto) {
+                super.update(taskDto);
+                latestUpdatesToHandle.remove(taskDto);
+            }
+        };
+        jobLauncherAutoService = new JobLauncherAutoService(
+                new CoreCCAdapterConfiguration("http://task-manager/tasks/", List.of(), List.of()),
+                Mockito.mock(CoreCCAdapterService.class),
+                recentTaskView,
+                new RunHistoryIndex(new RunHistoryConfiguration(200), meterRegistry),
+                new LaunchRegistry(new InMemoryLaunchClaimStore(Duration.ofMinutes(10)), meterRegistry),
+                new PartitionOwnership(new PartitionConfiguration(false, Path.of("partition-members"), Duration.ofSeconds(10), Duration.ofSeconds(30)), meterRegistry),
+                new LaunchScheduler(new LaunchSchedulerConfiguration(4, 100), meterRegistry),
+                new AutoLaunchConfiguration(4, 1000, Duration.ZERO),
+                meterRegistry);
+
+        burst = new ArrayList<>();
+        latestUpdates = new ArrayList<>();
+        final List<UUID> taskIds = new ArrayList<>();
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            taskIds.add(UUID.randomUUID());
+        }
+        for (int i = 0; i < UPDATES_PER_BURST; i++) {
+            final int timestampIndex = i % TIMESTAMPS;
+            final TaskDto update = new TaskDto(taskIds.get(timestampIndex), BUSINESS_DAY.plusHours(timestampIndex), TaskStatus.CREATED,
+                    List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+            burst.add(update);
+            if (i >= UPDATES_PER_BURST - TIMESTAMPS) {
+                latestUpdates.add(update);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jobLauncherAutoService.shutdown();
+    }
+
+    @Benchmark
+    public void consumeBurst() {
+        latestUpdatesToHandle.addAll(latestUpdates);
+        if (batchSize == 1) {
+            burst.forEach(jobLauncherAutoService::submitTaskUpdate);
+        } else {
+            for (int i = 0; i < burst.size(); i += batchSize) {
+                jobLauncherAutoService.submitTaskUpdates(burst.subList(i, Math.min(i + batchSize, burst.size())));
+            }
+        }
+        while (!latestUpdatesToHandle.isEmpty()) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -6,7 +6,23 @@
  */
 package com.farao_community.farao.core_cc;
 
+import com.farao_community.farao.core_cc.adapter.configuration.AsyncLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.AutoLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.BatchLaunchConfiguration;
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.DispatchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchClaimConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchPlanConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.PartitionConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.PresignedUrlConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.ProcessConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.RaoRequestConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.RunHistoryConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerResilienceConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskViewConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.UrlDownloadConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -19,7 +35,7 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
  */
 @SuppressWarnings("hideutilityclassconstructor")
 @EnableWebMvc
-@EnableConfigurationProperties({CoreCCAdapterConfiguration.class})
+@EnableConfigurationProperties({CoreCCAdapterConfiguration.class, ProcessConfiguration.class, RaoRequestConfiguration.class, BatchLaunchConfiguration.class, UrlDownloadConfiguration.class, TaskManagerClientConfiguration.class, TaskViewConfiguration.class, TaskManagerResilienceConfiguration.class, AutoLaunchConfiguration.class, RunHistoryConfiguration.class, LaunchClaimConfiguration.class, PartitionConfiguration.class, AsyncLaunchConfiguration.class, LaunchSchedulerConfiguration.class, DispatchConfiguration.class, PresignedUrlConfiguration.class, LaunchPlanConfiguration.class})
 @EnableRetry
 @SpringBootApplication
 public class CoreCCAdapterApplication {
@@ -7,19 +7,37 @@
 package com.farao_community.farao.core_cc.adapter;
 
 import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
 import com.farao_community.farao.core_cc.adapter.exception.TaskNotFoundException;
+import com.farao_community.farao.core_cc.adapter.service.AsyncJobLauncherService;
+import com.farao_community.farao.core_cc.adapter.service.AsyncLaunchStatus;
+import com.farao_community.farao.core_cc.adapter.service.JobLaunchOutcome;
+import com.farao_community.farao.core_cc.adapter.service.JobLauncherBatchService;
 import com.farao_community.farao.core_cc.adapter.service.JobLauncherManualService;
+import com.farao_community.farao.core_cc.adapter.service.LaunchRegistry;
+import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.ParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -29,25 +47,104 @@ public class JobLauncherController {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherController.class);
 
     private final JobLauncherManualService jobLauncherService;
+    private final JobLauncherBatchService jobLauncherBatchService;
+    private final AsyncJobLauncherService asyncJobLauncherService;
+    private final LaunchRegistry launchRegistry;
 
-    public JobLauncherController(JobLauncherManualService jobLauncherManualService) {
+    public JobLauncherController(JobLauncherManualService jobLauncherManualService, JobLauncherBatchService jobLauncherBatchService,
+                                 AsyncJobLauncherService asyncJobLauncherService, LaunchRegistry launchRegistry) {
         this.jobLauncherService = jobLauncherManualService;
+        this.jobLauncherBatchService = jobLauncherBatchService;
+        this.asyncJobLauncherService = asyncJobLauncherService;
+        this.launchRegistry = launchRegistry;
     }
 
+    // The response is sent once the launch is done, the request thread is released while the launch is queued
     @PostMapping(value = "/start/{timestamp}")
-    public ResponseEntity<Void> launchJob(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
-        List<TaskParameterDto> taskParameterDtos = List.of();
-        if (parameters != null) {
-            taskParameterDtos = parameters.stream().map(TaskParameterDto::new).toList();
+    public CompletableFuture<ResponseEntity<Void>> launchJob(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
+        CompletableFuture<Void> launch;
+        try {
+            launch = jobLauncherService.launchJobAsync(timestamp, getTaskParameterDtos(parameters));
+        } catch (RuntimeException e) {
+            launch = CompletableFuture.failedFuture(e);
         }
+        return launch.handle((done, throwable) -> {
+            if (throwable == null) {
+                return ResponseEntity.ok().build();
+            }
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof TaskNotFoundException) {
+                return getNotFoundResponseEntity(timestamp);
+            } else if (cause instanceof CoreCCAdapterException cccae) {
+                return getBadRequestResponseEntity(cccae, timestamp);
+            } else if (cause instanceof LaunchRejectedException lre) {
+                LOGGER.warn("Launch of timestamp {} rejected: {}", LoggingUtil.sanifyString(timestamp), lre.getMessage());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    @PostMapping(value = "/start-async/{timestamp}")
+    public ResponseEntity<AsyncLaunchStatus> launchJobAsync(@PathVariable String timestamp, @RequestBody List<ParameterDto> parameters) {
         try {
-            jobLauncherService.launchJob(timestamp, taskParameterDtos);
-            return ResponseEntity.ok().build();
-        } catch (TaskNotFoundException tnfe) {
-            return getNotFoundResponseEntity(timestamp);
+            final AsyncLaunchStatus status = asyncJobLauncherService.submit(timestamp, getTaskParameterDtos(parameters));
+            return ResponseEntity.accepted()
+                    .location(URI.create("/launches/" + status.launchId()))
+                    .body(status);
         } catch (CoreCCAdapterException cccae) {
-            return getBadRequestResponseEntity(cccae, timestamp);
+            LOGGER.error("Error occurred in timestamp {}", LoggingUtil.sanifyString(timestamp), cccae);
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException ree) {
+            LOGGER.warn("Launch of timestamp {} rejected, too many launches are queued", LoggingUtil.sanifyString(timestamp));
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping(value = "/launches/{launchId}")
+    public ResponseEntity<AsyncLaunchStatus> getLaunchStatus(@PathVariable UUID launchId) {
+        return ResponseEntity.of(asyncJobLauncherService.getStatus(launchId));
+    }
+
+    // Batch responses are sent once all their launches are done, the request thread is released meanwhile
+    @PostMapping(value = "/start-batch/business-day/{businessDate}")
+    public CompletableFuture<ResponseEntity<List<JobLaunchOutcome>>> launchBusinessDay(@PathVariable String businessDate, @RequestBody List<ParameterDto> parameters) {
+        try {
+            return jobLauncherBatchService.launchBusinessDay(LocalDate.parse(businessDate), getTaskParameterDtos(parameters))
+                    .thenApply(ResponseEntity::ok);
+        } catch (DateTimeException | CoreCCAdapterException e) {
+            LOGGER.error("Failed to launch business day {}", LoggingUtil.sanifyString(businessDate), e);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (LaunchRejectedException lre) {
+            LOGGER.warn("Launch of business day {} rejected: {}", LoggingUtil.sanifyString(businessDate), lre.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+    }
+
+    @PostMapping(value = "/start-batch")
+    public CompletableFuture<ResponseEntity<List<JobLaunchOutcome>>> launchTimestampRange(@RequestParam String from, @RequestParam String to, @RequestBody List<ParameterDto> parameters) {
+        try {
+            return jobLauncherBatchService.launchTimestampRange(OffsetDateTime.parse(from), OffsetDateTime.parse(to), getTaskParameterDtos(parameters))
+                    .thenApply(ResponseEntity::ok);
+        } catch (DateTimeException | CoreCCAdapterException e) {
+            LOGGER.error("Failed to launch timestamps from {} to {}", LoggingUtil.sanifyString(from), LoggingUtil.sanifyString(to), e);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (LaunchRejectedException lre) {
+            LOGGER.warn("Launch of timestamps from {} to {} rejected: {}", LoggingUtil.sanifyString(from), LoggingUtil.sanifyString(to), lre.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+    }
+
+    @GetMapping(value = "/launches")
+    public ResponseEntity<List<LaunchRegistry.LaunchState>> getInFlightLaunches() {
+        return ResponseEntity.ok(launchRegistry.getInFlightLaunches());
+    }
+
+    private static List<TaskParameterDto> getTaskParameterDtos(final List<ParameterDto> parameters) {
+        if (parameters == null) {
+            return List.of();
         }
+        return parameters.stream().map(TaskParameterDto::new).toList();
     }
 
     private ResponseEntity<Void> getNotFoundResponseEntity(final String timestamp) {
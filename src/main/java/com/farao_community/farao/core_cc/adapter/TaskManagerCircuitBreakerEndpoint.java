@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter;
+
+import com.farao_community.farao.core_cc.adapter.service.TaskManagerResilience;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the state of the task-manager circuit breakers and retry budget.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+@Endpoint(id = "taskmanager")
+public class TaskManagerCircuitBreakerEndpoint {
+    private final TaskManagerResilience taskManagerResilience;
+
+    public TaskManagerCircuitBreakerEndpoint(TaskManagerResilience taskManagerResilience) {
+        this.taskManagerResilience = taskManagerResilience;
+    }
+
+    @ReadOperation
+    public Map<String, Object> circuitBreakers() {
+        return taskManagerResilience.getStatus();
+    }
+}
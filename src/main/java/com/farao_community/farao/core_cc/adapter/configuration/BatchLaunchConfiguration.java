@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.batch")
+public record BatchLaunchConfiguration(@DefaultValue("4") int concurrency,
+                                       @DefaultValue("30m") Duration firstTimestampOffset,
+                                       @DefaultValue("744") int maxTimestamps) {
+}
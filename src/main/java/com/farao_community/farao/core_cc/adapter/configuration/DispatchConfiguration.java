@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.dispatch")
+public record DispatchConfiguration(@DefaultValue("platform") ThreadPolicy threadPolicy,
+                                    @DefaultValue("2") int threads,
+                                    @DefaultValue("100") int maxQueuedDispatches,
+                                    @DefaultValue("caller-runs") RejectionPolicy rejectionPolicy) {
+
+    public enum ThreadPolicy {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        FAIL
+    }
+}
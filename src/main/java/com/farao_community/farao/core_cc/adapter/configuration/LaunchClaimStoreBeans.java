@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import com.farao_community.farao.core_cc.adapter.service.FileLaunchClaimStore;
+import com.farao_community.farao.core_cc.adapter.service.InMemoryLaunchClaimStore;
+import com.farao_community.farao.core_cc.adapter.service.LaunchClaimStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Launch claims are kept in memory by default, which only protects against duplicate launches within an instance.
+ * When several instances of the adapter are deployed, claims must be stored in a directory shared by all of them.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+public class LaunchClaimStoreBeans {
+
+    @Bean
+    public LaunchClaimStore launchClaimStore(final LaunchClaimConfiguration configuration) {
+        return switch (configuration.store()) {
+            case IN_MEMORY -> new InMemoryLaunchClaimStore(configuration.duration());
+            case FILE -> new FileLaunchClaimStore(configuration.directory(), configuration.duration());
+        };
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.presigned-url")
+public record PresignedUrlConfiguration(@DefaultValue("4") int signingConcurrency,
+                                        @DefaultValue("1") int defaultValidityDays,
+                                        @DefaultValue Map<String, Integer> validityDays,
+                                        @DefaultValue("12h") Duration minRemainingValidity,
+                                        @DefaultValue("1000") int cacheSize) {
+
+    public int getValidityDays(final String fileType) {
+        return validityDays.getOrDefault(fileType, defaultValidityDays);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Single HTTP client shared by all the requests to the task-manager.
+ * By default, requests go through a pool of kept-alive HTTP/1.1 connections. When HTTP/2 is enabled, the JDK client
+ * multiplexes requests instead. Either way, each endpoint has its own response timeout.
+ * Clients and connection pool are beans, so they are closed with the application context.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+public class TaskManagerClientBeans {
+    public static final String GET_TASK_ENDPOINT = "get-task";
+    public static final String ADD_RUN_ENDPOINT = "add-run";
+    public static final String UPDATE_STATUS_ENDPOINT = "update-status";
+    private static final String HTTP2_PROPERTY = "core-cc-adapter.task-manager-client.http2";
+
+    @Bean
+    public RestTemplate taskManagerRestTemplate(final RestTemplateBuilder restTemplateBuilder, final ClientHttpRequestFactory taskManagerRequestFactory) {
+        return restTemplateBuilder.requestFactory(() -> taskManagerRequestFactory).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager taskManagerConnectionManager(final TaskManagerClientConfiguration configuration, final MeterRegistry meterRegistry) {
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(configuration.maxConnections())
+                .setMaxConnPerRoute(configuration.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(configuration.connectTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "task-manager").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public CloseableHttpClient taskManagerHttpClient(final PoolingHttpClientConnectionManager taskManagerConnectionManager, final TaskManagerClientConfiguration configuration) {
+        // The connection manager is a bean of its own, closed by the context after the client
+        return HttpClients.custom()
+                .setConnectionManager(taskManagerConnectionManager)
+                .setConnectionManagerShared(true)
+                .evictIdleConnections(TimeValue.of(configuration.idleTimeout()))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledTaskManagerRequestFactory(final CloseableHttpClient taskManagerHttpClient, final TaskManagerClientConfiguration configuration) {
+        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(taskManagerHttpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            final HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.of(configuration.getResponseTimeout(getEndpoint(uri))))
+                    .build());
+            return context;
+        });
+        return requestFactory;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "true")
+    public HttpClient taskManagerHttp2Client(final TaskManagerClientConfiguration configuration) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(configuration.connectTimeout())
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "true")
+    public ClientHttpRequestFactory http2TaskManagerRequestFactory(final HttpClient taskManagerHttp2Client, final TaskManagerClientConfiguration configuration) {
+        // The read timeout of a JDK request factory is the timeout of its requests, so each endpoint gets its own factory
+        final Map<String, ClientHttpRequestFactory> requestFactories = new HashMap<>();
+        for (final String endpoint : List.of(GET_TASK_ENDPOINT, ADD_RUN_ENDPOINT, UPDATE_STATUS_ENDPOINT)) {
+            final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(taskManagerHttp2Client);
+            requestFactory.setReadTimeout(configuration.getResponseTimeout(endpoint));
+            requestFactories.put(endpoint, requestFactory);
+        }
+        return (uri, httpMethod) -> new TimeoutReportingRequest(requestFactories.get(getEndpoint(uri)).createRequest(uri, httpMethod));
+    }
+
+    static String getEndpoint(final URI uri) {
+        final String path = uri.getPath();
+        if (path.endsWith("/runHistory")) {
+            return ADD_RUN_ENDPOINT;
+        } else if (path.endsWith("/status")) {
+            return UPDATE_STATUS_ENDPOINT;
+        }
+        return GET_TASK_ENDPOINT;
+    }
+
+    /**
+     * A JDK request reaching its timeout may fail with the cancellation of its response instead of an I/O error:
+     * it is reported as an I/O error, so that the timeout is handled as any other failure to reach the task-manager.
+     */
+    private record TimeoutReportingRequest(ClientHttpRequest request) implements ClientHttpRequest {
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            try {
+                return request.execute();
+            } catch (CancellationException e) {
+                throw new IOException("Request to the task-manager timed out", e);
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return request.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return request.getHeaders();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return request.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return request.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return request.getAttributes();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param endpointResponseTimeouts response timeouts overriding the default one, by endpoint:
+ *                                 {@code get-task}, {@code add-run} or {@code update-status}
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.task-manager-client")
+public record TaskManagerClientConfiguration(@DefaultValue("20") int maxConnections,
+                                             @DefaultValue("5s") Duration connectTimeout,
+                                             @DefaultValue("30s") Duration responseTimeout,
+                                             @DefaultValue Map<String, Duration> endpointResponseTimeouts,
+                                             @DefaultValue("30s") Duration idleTimeout,
+                                             @DefaultValue("false") boolean http2) {
+
+    public Duration getResponseTimeout(final String endpoint) {
+        return endpointResponseTimeouts.getOrDefault(endpoint, responseTimeout);
+    }
+}
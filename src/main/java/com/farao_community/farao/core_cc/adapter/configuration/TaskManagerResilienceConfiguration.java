@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.task-manager-resilience")
+public record TaskManagerResilienceConfiguration(@DefaultValue("5") int failureThreshold,
+                                                 @DefaultValue("30s") Duration openDuration,
+                                                 @DefaultValue("0.2") double retryBudgetRatio,
+                                                 @DefaultValue("10") int retryBudgetMinRetries,
+                                                 @DefaultValue("1m") Duration retryBudgetWindow) {
+}
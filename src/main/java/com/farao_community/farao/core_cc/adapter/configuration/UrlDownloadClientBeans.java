@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Single HTTP client shared by all the downloads of file resources, going through a bounded pool of kept-alive connections.
+ * A single blocked read is bounded by the read timeout, used as response timeout.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+public class UrlDownloadClientBeans {
+
+    @Bean
+    public PoolingHttpClientConnectionManager downloadConnectionManager(final UrlDownloadConfiguration configuration, final MeterRegistry meterRegistry) {
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(configuration.maxConnections())
+                .setMaxConnPerRoute(configuration.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(configuration.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(configuration.readTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "download").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient downloadHttpClient(final PoolingHttpClientConnectionManager downloadConnectionManager, final UrlDownloadConfiguration configuration) {
+        // The connection manager is a bean of its own, closed by the context after the client
+        return HttpClients.custom()
+                .setConnectionManager(downloadConnectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(configuration.readTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(configuration.idleTimeout()))
+                .build();
+    }
+}
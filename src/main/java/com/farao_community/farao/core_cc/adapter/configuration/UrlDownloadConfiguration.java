@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@ConfigurationProperties("core-cc-adapter.download")
+public record UrlDownloadConfiguration(@DefaultValue("5s") Duration connectTimeout,
+                                       @DefaultValue("30s") Duration readTimeout,
+                                       @DefaultValue("2m") Duration totalTimeout,
+                                       @DefaultValue("100MB") DataSize maxSize,
+                                       @DefaultValue("20") int maxConnections,
+                                       @DefaultValue("30s") Duration idleTimeout) {
+}
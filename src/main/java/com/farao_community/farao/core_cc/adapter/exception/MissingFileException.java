@@ -6,12 +6,27 @@
  */
 package com.farao_community.farao.core_cc.adapter.exception;
 
+import java.util.List;
+
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 public class MissingFileException extends RuntimeException {
+    private final List<String> missingFileMessages;
 
     public MissingFileException(String message) {
-        super(message);
+        this(List.of(message));
+    }
+
+    public MissingFileException(List<String> missingFileMessages) {
+        super(String.join("; ", missingFileMessages));
+        this.missingFileMessages = List.copyOf(missingFileMessages);
+    }
+
+    /**
+     * @return one message per missing file
+     */
+    public List<String> getMissingFileMessages() {
+        return missingFileMessages;
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.AsyncLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manual launches run on a dedicated executor: the caller gets a launch id immediately and polls the launch status.
+ * The statuses of the most recent launches are retained, older ones are forgotten.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class AsyncJobLauncherService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncJobLauncherService.class);
+
+    private final JobLauncherManualService jobLauncherManualService;
+    private final ExecutorService launchExecutor;
+    private final Map<UUID, AsyncLaunch> launches = new LinkedHashMap<>();
+    private final int maxRetainedStatuses;
+
+    public AsyncJobLauncherService(JobLauncherManualService jobLauncherManualService, AsyncLaunchConfiguration asyncLaunchConfiguration) {
+        this.jobLauncherManualService = jobLauncherManualService;
+        this.launchExecutor = new ThreadPoolExecutor(asyncLaunchConfiguration.concurrency(), asyncLaunchConfiguration.concurrency(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(asyncLaunchConfiguration.maxQueuedLaunches()));
+        this.maxRetainedStatuses = asyncLaunchConfiguration.maxRetainedStatuses();
+    }
+
+    /**
+     * @return the status of the accepted launch
+     * @throws CoreCCAdapterException if the timestamp is invalid
+     * @throws RejectedExecutionException if too many launches are already queued
+     */
+    public AsyncLaunchStatus submit(final String timestamp, final List<TaskParameterDto> parameters) {
+        try {
+            OffsetDateTime.parse(timestamp);
+        } catch (DateTimeException e) {
+            throw new CoreCCAdapterException(String.format("Invalid timestamp %s", LoggingUtil.sanifyString(timestamp)), e);
+        }
+        final AsyncLaunch launch = new AsyncLaunch(UUID.randomUUID(), timestamp, Instant.now());
+        // Registered before being submitted, so that its status can be polled as soon as it runs
+        synchronized (launches) {
+            launches.put(launch.launchId, launch);
+        }
+        try {
+            launchExecutor.execute(() -> run(launch, parameters));
+        } catch (RejectedExecutionException e) {
+            synchronized (launches) {
+                launches.remove(launch.launchId);
+            }
+            throw e;
+        }
+        // Statuses are only forgotten once the launch is accepted, a rejected launch must not evict them
+        synchronized (launches) {
+            final Iterator<UUID> oldestLaunchIds = launches.keySet().iterator();
+            while (launches.size() > maxRetainedStatuses) {
+                oldestLaunchIds.next();
+                oldestLaunchIds.remove();
+            }
+        }
+        LOGGER.info("Launch {} of task {} accepted", launch.launchId, LoggingUtil.sanifyString(timestamp));
+        return getStatus(launch);
+    }
+
+    public Optional<AsyncLaunchStatus> getStatus(final UUID launchId) {
+        final AsyncLaunch launch;
+        synchronized (launches) {
+            launch = launches.get(launchId);
+        }
+        return Optional.ofNullable(launch).map(this::getStatus);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launchExecutor.shutdownNow();
+    }
+
+    private void run(final AsyncLaunch launch, final List<TaskParameterDto> parameters) {
+        launch.startedAt = Instant.now();
+        try {
+            launch.complete(jobLauncherManualService.tryLaunchJob(launch.timestamp, parameters, registryLaunch -> launch.registryLaunch = registryLaunch), null);
+        } catch (LaunchRejectedException e) {
+            launch.complete(JobLaunchOutcome.Status.REJECTED, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.error("Launch {} of task {} failed", launch.launchId, LoggingUtil.sanifyString(launch.timestamp), e);
+            launch.complete(JobLaunchOutcome.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private AsyncLaunchStatus getStatus(final AsyncLaunch launch) {
+        synchronized (launch) {
+            final AsyncLaunchStatus.State state;
+            LaunchRegistry.Stage stage = null;
+            if (launch.outcome != null) {
+                state = AsyncLaunchStatus.State.COMPLETED;
+            } else if (launch.startedAt != null) {
+                state = AsyncLaunchStatus.State.RUNNING;
+                // Another launch of the same timestamp may be in progress, only the stage of this launch is relevant
+                stage = Optional.ofNullable(launch.registryLaunch).map(LaunchRegistry.Launch::getStage).orElse(null);
+            } else {
+                state = AsyncLaunchStatus.State.QUEUED;
+            }
+            return new AsyncLaunchStatus(launch.launchId, launch.timestamp, state, stage,
+                    launch.submittedAt, launch.startedAt, launch.finishedAt, launch.outcome, launch.message);
+        }
+    }
+
+    private static final class AsyncLaunch {
+        private final UUID launchId;
+        private final String timestamp;
+        private final Instant submittedAt;
+        private volatile Instant startedAt;
+        private volatile LaunchRegistry.Launch registryLaunch;
+        private Instant finishedAt;
+        private JobLaunchOutcome.Status outcome;
+        private String message;
+
+        private AsyncLaunch(final UUID launchId, final String timestamp, final Instant submittedAt) {
+            this.launchId = launchId;
+            this.timestamp = timestamp;
+            this.submittedAt = submittedAt;
+        }
+
+        private synchronized void complete(final JobLaunchOutcome.Status outcome, final String message) {
+            this.finishedAt = Instant.now();
+            this.outcome = outcome;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Status of a launch accepted by the asynchronous launch API.
+ * The stage is only known while the launch is running, and the outcome once it is completed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record AsyncLaunchStatus(UUID launchId,
+                                String timestamp,
+                                State state,
+                                LaunchRegistry.Stage stage,
+                                Instant submittedAt,
+                                Instant startedAt,
+                                Instant finishedAt,
+                                JobLaunchOutcome.Status outcome,
+                                String message) {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED
+    }
+}
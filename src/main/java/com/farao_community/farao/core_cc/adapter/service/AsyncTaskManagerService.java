@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientBeans;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.RetryException;
+import com.farao_community.farao.core_cc.adapter.exception.TaskManagerUnavailableException;
+import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link TaskManagerService}, used by the launches: requests are sent asynchronously,
+ * and retries are scheduled on a timer instead of sleeping in the calling thread.
+ * Retry settings, fallbacks and {@link TaskManagerResilience} guards are the same as the blocking service.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class AsyncTaskManagerService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncTaskManagerService.class);
+    private static final String EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER = "Exception occurred during request to task-manager";
+    private static final String REQUESTING_URL_ATTEMPT = "Requesting URL: {} (#{} attempt)";
+
+    private final String taskManagerTimestampBaseUrl;
+    private final TaskManagerClientConfiguration taskManagerClientConfiguration;
+    private final TaskManagerResilience taskManagerResilience;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final long backoffDelayMillis;
+    private final double backoffMultiplier;
+    private final int maxAttempts;
+
+    public AsyncTaskManagerService(CoreCCAdapterConfiguration coreCCAdapterConfiguration,
+                                   TaskManagerClientConfiguration taskManagerClientConfiguration,
+                                   TaskManagerResilience taskManagerResilience,
+                                   ObjectMapper objectMapper,
+                                   @Value("${retry.backoff.delay}") long backoffDelayMillis,
+                                   @Value("${retry.backoff.multiplier}") double backoffMultiplier,
+                                   @Value("${retry.max-attempts}") int maxAttempts) {
+        this.taskManagerTimestampBaseUrl = coreCCAdapterConfiguration.taskManagerTimestampUrl();
+        this.taskManagerClientConfiguration = taskManagerClientConfiguration;
+        this.taskManagerResilience = taskManagerResilience;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(taskManagerClientConfiguration.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(taskManagerClientConfiguration.connectTimeout())
+                .build();
+        this.backoffDelayMillis = backoffDelayMillis;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public CompletableFuture<Optional<TaskDto>> getTaskFromTimestamp(final String timestamp) {
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp);
+        return executeWithRetry(requestUrl, TaskManagerClientBeans.GET_TASK_ENDPOINT,
+                () -> getRequestBuilder(requestUrl, TaskManagerClientBeans.GET_TASK_ENDPOINT).GET().build(),
+                response -> Optional.of(getTaskFromResponse(response)))
+                .exceptionally(e -> {
+                    LOGGER.error("Problem occurred while querying task-manager for timestamp {}", LoggingUtil.sanifyString(timestamp), unwrap(e));
+                    return Optional.empty();
+                });
+    }
+
+    public CompletableFuture<Optional<TaskDto>> addNewRunInTaskHistory(final String timestamp, final List<ProcessFileDto> inputs) {
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp) + "/runHistory";
+        return executeWithRetry(requestUrl, TaskManagerClientBeans.ADD_RUN_ENDPOINT,
+                () -> getRequestBuilder(requestUrl, TaskManagerClientBeans.ADD_RUN_ENDPOINT)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(inputs)))
+                        .build(),
+                response -> Optional.of(getTaskFromResponse(response)))
+                .exceptionally(e -> {
+                    LOGGER.error("Problem occurred while requesting task-manager to add a new run for timestamp {}", timestamp, unwrap(e));
+                    return Optional.empty();
+                });
+    }
+
+    public CompletableFuture<Boolean> updateTaskStatus(final String timestamp, final TaskStatus taskStatus) {
+        final String requestUrl = getTaskManagerTimestampUrl(timestamp) + "/status?status=" + taskStatus;
+        return executeWithRetry(requestUrl, TaskManagerClientBeans.UPDATE_STATUS_ENDPOINT,
+                () -> getRequestBuilder(requestUrl, TaskManagerClientBeans.UPDATE_STATUS_ENDPOINT)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .PUT(HttpRequest.BodyPublishers.ofString("{}"))
+                        .build(),
+                response -> getTaskFromResponse(response) != null)
+                .exceptionally(e -> {
+                    LOGGER.error("Problem occurred while requesting task-manager a status update ({}) for timestamp {}", taskStatus, timestamp, unwrap(e));
+                    return false;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> executeWithRetry(final String requestUrl, final String endpoint, final Supplier<HttpRequest> request,
+                                                      final Function<HttpResponse<byte[]>, T> responseReader) {
+        return executeAttempt(requestUrl, endpoint, request, responseReader, 0, backoffDelayMillis);
+    }
+
+    /**
+     * Every attempt admitted by {@link TaskManagerResilience} reports its outcome, as the blocking service does:
+     * an attempt answered with a client error counts as a success for the circuit, but is retried.
+     */
+    private <T> CompletableFuture<T> executeAttempt(final String requestUrl, final String endpoint, final Supplier<HttpRequest> request,
+                                                    final Function<HttpResponse<byte[]>, T> responseReader, final int retryCount, final long delayMillis) {
+        try {
+            taskManagerResilience.acquirePermission(endpoint, retryCount);
+        } catch (TaskManagerUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        LOGGER.info(REQUESTING_URL_ATTEMPT, LoggingUtil.sanifyString(requestUrl), retryCount);
+        CompletableFuture<HttpResponse<byte[]>> attempt;
+        try {
+            attempt = httpClient.sendAsync(request.get(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        return attempt
+                .handle((response, throwable) -> {
+                    final Throwable failure;
+                    try {
+                        if (throwable != null) {
+                            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, unwrap(throwable));
+                        }
+                        final T result = responseReader.apply(response);
+                        taskManagerResilience.onSuccess(endpoint);
+                        return CompletableFuture.completedFuture(result);
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                    if (response != null && HttpStatusCode.valueOf(response.statusCode()).is4xxClientError()) {
+                        // The task-manager answered: a client error does not mean it is unavailable
+                        taskManagerResilience.onSuccess(endpoint);
+                    } else {
+                        taskManagerResilience.onFailure(endpoint);
+                    }
+                    if (retryCount + 1 >= maxAttempts) {
+                        return CompletableFuture.<T>failedFuture(failure);
+                    }
+                    // The next attempt is triggered by a timer, no thread waits for it
+                    return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> executeAttempt(requestUrl, endpoint, request, responseReader, retryCount + 1, (long) (delayMillis * backoffMultiplier)));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private HttpRequest.Builder getRequestBuilder(final String requestUrl, final String endpoint) {
+        final Duration responseTimeout = taskManagerClientConfiguration.getResponseTimeout(endpoint);
+        return HttpRequest.newBuilder(URI.create(requestUrl))
+                .timeout(responseTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private TaskDto getTaskFromResponse(final HttpResponse<byte[]> response) {
+        if (response.statusCode() != HttpStatus.OK.value() || response.body() == null || response.body().length == 0) {
+            throw new RetryException("Unexpected response from the task-manager");
+        }
+        try {
+            return objectMapper.readValue(response.body(), TaskDto.class);
+        } catch (IOException e) {
+            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
+        }
+    }
+
+    private byte[] toJson(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private String getTaskManagerTimestampUrl(final String timestamp) {
+        return taskManagerTimestampBaseUrl + timestamp;
+    }
+}
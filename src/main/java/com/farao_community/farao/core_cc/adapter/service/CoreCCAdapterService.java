@@ -9,34 +9,43 @@ package com.farao_community.farao.core_cc.adapter.service;
 import com.farao_community.farao.core_cc.adapter.FileType;
 import com.farao_community.farao.core_cc.adapter.configuration.GridcapaConfiguration;
 import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
 import com.farao_community.farao.core_cc.adapter.exception.MissingFileException;
 import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
-import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
-import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
-import com.farao_community.farao.gridcapa_core_cc.starter.CoreCCClient;
-import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
-import com.unicorn.request.request_payload.RequestItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.stereotype.Service;
-import org.threeten.extra.Interval;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
+ * A task is handled in stages: its input files are resolved from the RAOREQUEST file, then a run is added to the task
+ * and its status is set to PENDING, while the presigned URLs of the input files are generated in parallel.
+ * The duration of each stage is recorded. The inputs can be resolved and signed ahead of time, before the task is READY,
+ * in which case the launch uses the prepared launch plan. No thread waits for the task-manager: the launch goes on
+ * in the continuations of its calls, retries included.
+ *
  * @author Godelaine de Montmorillon {@literal <godelaine.demontmorillon at rte-france.com>}
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -47,105 +56,193 @@ public class CoreCCAdapterService {
     private static final String TASK_STATUS_UPDATE = "task-status-update";
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreCCAdapterService.class);
 
-    private final CoreCCClient coreCCClient;
+    private final CoreCCDispatcher coreCCDispatcher;
     private final FileImporter fileImporter;
-    private final MinioAdapter minioAdapter;
+    private final RaoRequestCache raoRequestCache;
+    private final PresignedUrlService presignedUrlService;
     private final Logger eventsLogger;
-    private final TaskManagerService taskManagerService;
+    private final AsyncTaskManagerService asyncTaskManagerService;
     private final StreamBridge streamBridge;
     private final GridcapaConfiguration gridcapaConfiguration;
+    private final RunHistoryIndex runHistoryIndex;
+    private final LaunchRegistry launchRegistry;
+    private final LaunchPlanCache launchPlanCache;
+    private final Map<LaunchRegistry.Stage, Timer> stageTimers = new EnumMap<>(LaunchRegistry.Stage.class);
 
-    public CoreCCAdapterService(CoreCCClient coreCCClient, FileImporter fileImporter, MinioAdapter minioAdapter, Logger eventsLogger, TaskManagerService taskManagerService, StreamBridge streamBridge, GridcapaConfiguration gridcapaConfiguration) {
-        this.coreCCClient = coreCCClient;
+    public CoreCCAdapterService(CoreCCDispatcher coreCCDispatcher, FileImporter fileImporter, RaoRequestCache raoRequestCache, PresignedUrlService presignedUrlService, Logger eventsLogger,
+                                AsyncTaskManagerService asyncTaskManagerService, StreamBridge streamBridge, GridcapaConfiguration gridcapaConfiguration, RunHistoryIndex runHistoryIndex,
+                                LaunchRegistry launchRegistry, LaunchPlanCache launchPlanCache, MeterRegistry meterRegistry) {
+        this.coreCCDispatcher = coreCCDispatcher;
         this.fileImporter = fileImporter;
-        this.minioAdapter = minioAdapter;
+        this.raoRequestCache = raoRequestCache;
+        this.presignedUrlService = presignedUrlService;
         this.eventsLogger = eventsLogger;
-        this.taskManagerService = taskManagerService;
+        this.asyncTaskManagerService = asyncTaskManagerService;
         this.streamBridge = streamBridge;
         this.gridcapaConfiguration = gridcapaConfiguration;
+        this.runHistoryIndex = runHistoryIndex;
+        this.launchRegistry = launchRegistry;
+        this.launchPlanCache = launchPlanCache;
+        for (LaunchRegistry.Stage stage : List.of(LaunchRegistry.Stage.RESOLVING_INPUTS, LaunchRegistry.Stage.ADDING_RUN, LaunchRegistry.Stage.UPDATING_STATUS,
+                LaunchRegistry.Stage.SIGNING_URLS, LaunchRegistry.Stage.DISPATCHING)) {
+            stageTimers.put(stage, Timer.builder("core-cc-adapter.launch.stage")
+                    .description("Time spent in each stage of the handling of a task")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Prepares in the background the launch plan of a task which is not READY yet, so that its launch only has to
+     * call the task-manager and dispatch the request. Nothing is reported if the plan cannot be prepared.
+     */
+    public void prepareLaunch(final TaskDto taskDto) {
+        launchPlanCache.prepare(taskDto, () -> {
+            final LaunchPlan launchPlan = getLaunchPlan(taskDto, null);
+            launchPlan.inputFiles().stream()
+                    .filter(inputFile -> isExpectedFileType(inputFile.getFileType()))
+                    .forEach(presignedUrlService::getFileResource);
+            return launchPlan;
+        });
+    }
+
+    public CompletableFuture<Void> handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        return handleTask(taskDto, isLaunchedAutomatically, null);
     }
 
-    public void handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
-        handleTask(taskDto, isLaunchedAutomatically, null);
+    public CompletableFuture<Void> handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically, final List<TaskParameterDto> parameters) {
+        return handleTask(taskDto, isLaunchedAutomatically, parameters, null);
     }
 
-    public void handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically, final List<TaskParameterDto> parameters) {
+    /**
+     * @param raoRequestIndexes indexes of the RAOREQUEST files shared by the launches of a batch, null outside a batch
+     * @return a future completed once the request is dispatched or the launch has failed, completed exceptionally on error
+     */
+    CompletableFuture<Void> handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically, final List<TaskParameterDto> parameters, final RaoRequestIndexes raoRequestIndexes) {
         final String runMode = isLaunchedAutomatically ? "automatic" : "manual";
         final String timestamp = taskDto.getTimestamp().toString();
+        final List<ProcessFileDto> inputFiles;
+        final EnumMap<FileType, ProcessFileDto> inputFilesByType;
+        final EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> inputFilesSigning;
+        final Timer.Sample resolvingSample;
         try {
             LOGGER.info("Handling {} run request on TS {} ", runMode, timestamp);
-            final List<ProcessFileDto> inputFiles = getInputProcessFilesFromRaoRequest(taskDto);
-            final Optional<TaskDto> taskDtoWithRunOpt = taskManagerService.addNewRunInTaskHistory(timestamp, inputFiles);
-            if (taskDtoWithRunOpt.isPresent()) {
-                final TaskDto taskDtoWithRun = taskDtoWithRunOpt.get();
-                final boolean taskStatusUpdated = taskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING);
-                if (taskStatusUpdated) {
-                    eventsLogger.info("Task launched on TS {} using Gridcapa version {}", timestamp, gridcapaConfiguration.getVersion());
-                    final CoreCCRequest coreCCRequest = getCoreCCRequest(
-                            taskDtoWithRun.getId().toString(),
-                            taskDtoWithRun.getTimestamp(),
-                            getCurrentRunId(taskDtoWithRun),
-                            getParametersToUse(taskDtoWithRun.getParameters(), parameters),
-                            inputFiles,
-                            isLaunchedAutomatically);
-                    runAsync(coreCCRequest);
-                } else {
-                    eventsLogger.warn("Failed to launch task on TS {}: could not set task's status to PENDING", timestamp);
-                    streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
-                }
-            } else {
-                eventsLogger.warn("Failed to launch task on TS {}: could not add new run to the task", timestamp);
-                streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
-            }
-        } catch (RaoRequestImportException rrie) {
-            throw new CoreCCAdapterException("Error occurred during loading of RAOREQUEST file content", rrie);
-        } catch (MissingFileException mfe) {
-            eventsLogger.error(String.format("Task can't be launched: %s", mfe.getMessage()));
-            throw new CoreCCAdapterException("Some input files are missing, the task can't be launched");
-        } catch (CoreCCAdapterException cccae) {
-            throw cccae;
+            resolvingSample = startStage(taskDto, LaunchRegistry.Stage.RESOLVING_INPUTS);
+            inputFiles = getInputProcessFilesFromRaoRequest(taskDto, raoRequestIndexes);
+            inputFilesByType = getInputFilesByType(inputFiles);
+            // Input files are signed while the task-manager is being called
+            inputFilesSigning = signInputFiles(inputFilesByType);
         } catch (Exception e) {
-            throw new CoreCCAdapterException(String.format("Error while handling %s run request on TS %s", runMode, timestamp), e);
+            return CompletableFuture.failedFuture(toLaunchException(e, runMode, timestamp));
         }
+        final Timer.Sample addingRunSample = nextStage(resolvingSample, taskDto, LaunchRegistry.Stage.RESOLVING_INPUTS, LaunchRegistry.Stage.ADDING_RUN);
+        return asyncTaskManagerService.addNewRunInTaskHistory(timestamp, inputFiles)
+                .thenCompose(LoggingUtil.withLoggingContext(taskDtoWithRunOpt -> {
+                    if (taskDtoWithRunOpt.isEmpty()) {
+                        eventsLogger.warn("Failed to launch task on TS {}: could not add new run to the task", timestamp);
+                        streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    final TaskDto taskDtoWithRun = taskDtoWithRunOpt.get();
+                    final Timer.Sample updatingStatusSample = nextStage(addingRunSample, taskDto, LaunchRegistry.Stage.ADDING_RUN, LaunchRegistry.Stage.UPDATING_STATUS);
+                    return asyncTaskManagerService.updateTaskStatus(timestamp, TaskStatus.PENDING)
+                            .thenCompose(LoggingUtil.withLoggingContext(taskStatusUpdated -> {
+                                if (!taskStatusUpdated) {
+                                    eventsLogger.warn("Failed to launch task on TS {}: could not set task's status to PENDING", timestamp);
+                                    streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskDto.getId(), TaskStatus.ERROR));
+                                    return CompletableFuture.<Void>completedFuture(null);
+                                }
+                                eventsLogger.info("Task launched on TS {} using Gridcapa version {}", timestamp, gridcapaConfiguration.getVersion());
+                                final Timer.Sample signingSample = nextStage(updatingStatusSample, taskDto, LaunchRegistry.Stage.UPDATING_STATUS, LaunchRegistry.Stage.SIGNING_URLS);
+                                return awaitInputFilesSigning(inputFilesSigning)
+                                        .thenApply(LoggingUtil.<Void, Void>withLoggingContext(signed -> {
+                                            final Timer.Sample dispatchingSample = nextStage(signingSample, taskDto, LaunchRegistry.Stage.SIGNING_URLS, LaunchRegistry.Stage.DISPATCHING);
+                                            dispatch(taskDtoWithRun, parameters, inputFilesByType, inputFilesSigning, isLaunchedAutomatically);
+                                            dispatchingSample.stop(stageTimers.get(LaunchRegistry.Stage.DISPATCHING));
+                                            return null;
+                                        }));
+                            }));
+                }))
+                .handle((result, throwable) -> {
+                    // Signings still pending are useless once the launch has failed, and must not outlive it
+                    inputFilesSigning.values().forEach(signing -> signing.cancel(true));
+                    if (throwable != null) {
+                        throw toLaunchException(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable, runMode, timestamp);
+                    }
+                    return null;
+                });
+    }
+
+    private void dispatch(final TaskDto taskDtoWithRun, final List<TaskParameterDto> parameters, final EnumMap<FileType, ProcessFileDto> inputFilesByType,
+                          final EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> inputFilesSigning, final boolean isLaunchedAutomatically) {
+        final String currentRunId = getCurrentRunId(taskDtoWithRun);
+        final List<TaskParameterDto> parametersToUse = getParametersToUse(taskDtoWithRun.getParameters(), parameters);
+        // The request is built at dispatch time with the signed URLs: those that got close to expiry while the request was queued are signed again
+        coreCCDispatcher.dispatch(taskDtoWithRun.getId(), taskDtoWithRun.getTimestamp(), () -> getCoreCCRequest(
+                taskDtoWithRun.getId().toString(),
+                taskDtoWithRun.getTimestamp(),
+                currentRunId,
+                parametersToUse,
+                getInputFileResources(inputFilesByType, inputFilesSigning),
+                isLaunchedAutomatically));
     }
 
-    private void runAsync(final CoreCCRequest request) {
-        CompletableFuture.runAsync(() -> coreCCClient.run(request));
+    private RuntimeException toLaunchException(final Throwable throwable, final String runMode, final String timestamp) {
+        if (throwable instanceof RaoRequestImportException) {
+            return new CoreCCAdapterException("Error occurred during loading of RAOREQUEST file content", throwable);
+        } else if (throwable instanceof MissingFileException mfe) {
+            mfe.getMissingFileMessages().forEach(message -> eventsLogger.error(String.format("Task can't be launched: %s", message)));
+            return new CoreCCAdapterException("Some input files are missing, the task can't be launched");
+        } else if (throwable instanceof CoreCCAdapterException || throwable instanceof LaunchRejectedException) {
+            return (RuntimeException) throwable;
+        }
+        return new CoreCCAdapterException(String.format("Error while handling %s run request on TS %s", runMode, timestamp), throwable);
     }
 
-    private List<ProcessFileDto> getInputProcessFilesFromRaoRequest(final TaskDto taskDto) throws RaoRequestImportException {
+    private List<ProcessFileDto> getInputProcessFilesFromRaoRequest(final TaskDto taskDto, final RaoRequestIndexes raoRequestIndexes) throws RaoRequestImportException {
+        final Optional<LaunchPlan> preparedLaunchPlan = launchPlanCache.get(taskDto);
+        final LaunchPlan launchPlan = preparedLaunchPlan.isPresent() ? preparedLaunchPlan.get() : getLaunchPlan(taskDto, raoRequestIndexes);
+        launchPlan.duplicateDocuments().forEach((documentId, matchingFiles) ->
+                eventsLogger.warn("Several files found in task {} matching DocumentId {}: {}, using {}", taskDto.getTimestamp(), documentId,
+                        matchingFiles.stream().map(ProcessFileDto::getFilename).toList(), matchingFiles.getFirst().getFilename()));
+        return launchPlan.inputFiles();
+    }
+
+    private LaunchPlan getLaunchPlan(final TaskDto taskDto, final RaoRequestIndexes raoRequestIndexes) throws RaoRequestImportException {
         final OffsetDateTime taskTimestamp = taskDto.getTimestamp();
         final List<ProcessFileDto> availableInputFiles = taskDto.getAvailableInputs();
 
         final ProcessFileDto raoRequestProcessFile = findRaoRequestProcessFile(taskDto.getInputs())
                 .orElseThrow(() -> new MissingFileException(String.format("No RAOREQUEST file found in task %s", taskTimestamp)));
 
-        final List<ProcessFileDto> inputFiles = new ArrayList<>();
-        inputFiles.add(raoRequestProcessFile);
-
-        final CoreCCFileResource raoRequestFileResource = getCoreCCFileResource(raoRequestProcessFile);
-        getDocumentIdsFromRaoRequest(taskTimestamp, raoRequestFileResource).stream()
-                .map(documentId -> findProcessFileMatchingDocumentId(availableInputFiles, documentId)
-                        .orElseThrow(() -> new MissingFileException(String.format("No file found in task %s matching DocumentId %s", taskTimestamp, documentId))))
-                .forEach(inputFiles::add);
+        final InputResolver.Resolution resolution = InputResolver.resolve(availableInputFiles, getDocumentIdsFromRaoRequest(taskTimestamp, raoRequestProcessFile, raoRequestIndexes));
 
+        // All the missing files are reported at once
+        final List<String> missingFileMessages = new ArrayList<>();
+        resolution.missingDocumentIds().forEach(documentId ->
+                missingFileMessages.add(String.format("No file found in task %s matching DocumentId %s", taskTimestamp, documentId)));
         // TODO Remove this code specific to VIRTUALHUB files when Coreso has made it clear how to handle them
-        final ProcessFileDto virtualhubProcessFile = findVirtualhubProcessFile(taskDto.getInputs())
-                .orElseThrow(() -> new MissingFileException(String.format("No VIRTUALHUB file found in task %s", taskTimestamp)));
-        inputFiles.add(virtualhubProcessFile);
+        final Optional<ProcessFileDto> virtualhubProcessFile = findVirtualhubProcessFile(taskDto.getInputs());
+        if (virtualhubProcessFile.isEmpty()) {
+            missingFileMessages.add(String.format("No VIRTUALHUB file found in task %s", taskTimestamp));
+        }
+        if (!missingFileMessages.isEmpty()) {
+            throw new MissingFileException(missingFileMessages);
+        }
 
-        return inputFiles;
+        final List<ProcessFileDto> inputFiles = new ArrayList<>();
+        inputFiles.add(raoRequestProcessFile);
+        inputFiles.addAll(resolution.resolvedFiles());
+        inputFiles.add(virtualhubProcessFile.get());
+        return new LaunchPlan(inputFiles, resolution.duplicateDocuments());
     }
 
     private CoreCCRequest getCoreCCRequest(final String taskId,
                                            final OffsetDateTime taskTimestamp,
                                            final String runId,
                                            final List<TaskParameterDto> parameters,
-                                           final List<ProcessFileDto> inputFiles,
+                                           final EnumMap<FileType, CoreCCFileResource> inputFilesMap,
                                            final boolean isLaunchedAutomatically) {
-        final EnumMap<FileType, CoreCCFileResource> inputFilesMap = new EnumMap<>(FileType.class);
-        inputFiles.forEach(inputFile -> addProcessFileInInputFilesMap(inputFile, inputFilesMap));
-
         return new CoreCCRequest(
                 taskId,
                 runId,
@@ -175,50 +272,83 @@ public class CoreCCAdapterService {
                 .findFirst();
     }
 
-    private static Optional<ProcessFileDto> findProcessFileMatchingDocumentId(final List<ProcessFileDto> availableInputs, final String documentId) {
-        return availableInputs.stream()
-                .filter(availableInput -> documentId.equals(availableInput.getDocumentId()))
-                .findFirst();
+    private List<String> getDocumentIdsFromRaoRequest(final OffsetDateTime taskTimestamp, final ProcessFileDto raoRequestProcessFile,
+                                                      final RaoRequestIndexes raoRequestIndexes) throws RaoRequestImportException {
+        final Optional<List<String>> documentIds;
+        if (raoRequestIndexes != null) {
+            // The whole file is indexed once for the batch, through the cache when it is enabled
+            documentIds = raoRequestIndexes.get(raoRequestProcessFile,
+                            () -> raoRequestCache.get(raoRequestProcessFile, () -> fileImporter.importRaoRequestIndex(raoRequestProcessFile)))
+                    .getDocumentIds(taskTimestamp.toInstant());
+        } else if (raoRequestCache.isEnabled()) {
+            // The whole file is parsed once and shared with the other timestamps of the business day
+            documentIds = raoRequestCache.get(raoRequestProcessFile, () -> fileImporter.importRaoRequestIndex(raoRequestProcessFile))
+                    .getDocumentIds(taskTimestamp.toInstant());
+        } else {
+            documentIds = fileImporter.importDocumentIdsFromRaoRequest(raoRequestProcessFile, taskTimestamp.toInstant());
+        }
+        return documentIds.orElseThrow(() -> new CoreCCAdapterException(String.format("No data for timestamp %s in RAOREQUEST file", taskTimestamp)));
     }
 
-    private List<String> getDocumentIdsFromRaoRequest(final OffsetDateTime taskTimestamp, final CoreCCFileResource raoRequestFileResource) throws RaoRequestImportException {
-        final RequestMessage raoRequestMessage = fileImporter.importRaoRequest(raoRequestFileResource);
+    private Timer.Sample startStage(final TaskDto taskDto, final LaunchRegistry.Stage stage) {
+        launchRegistry.updateStage(taskDto.getTimestamp(), stage);
+        return Timer.start();
+    }
 
-        final RequestItem requestItem = raoRequestMessage.getPayload().getRequestItems().getRequestItem().stream()
-                .filter(item -> Interval.parse(item.getTimeInterval()).contains(taskTimestamp.toInstant()))
-                .findFirst()
-                .orElseThrow(() -> new CoreCCAdapterException(String.format("No data for timestamp %s in RAOREQUEST file", taskTimestamp)));
+    private Timer.Sample nextStage(final Timer.Sample stageSample, final TaskDto taskDto, final LaunchRegistry.Stage endedStage, final LaunchRegistry.Stage nextStage) {
+        stageSample.stop(stageTimers.get(endedStage));
+        return startStage(taskDto, nextStage);
+    }
 
-        return requestItem.getFiles().getFile().stream()
-                .filter(f -> !"CFG_RAO".equals(f.getCode())) // TODO Remove this filter when Coreso has made it clear how to handle VITRUALHUB files
-                .map(f -> f.getUrl().replace("documentIdentification://", ""))
-                .toList();
+    private static boolean isExpectedFileType(final String fileType) {
+        return Arrays.stream(FileType.values()).anyMatch(expectedFileType -> expectedFileType.name().equals(fileType));
     }
 
-    private void addProcessFileInInputFilesMap(final ProcessFileDto processFileDto, final EnumMap<FileType, CoreCCFileResource> inputFiles) {
-        try {
-            final FileType fileType = FileType.valueOf(processFileDto.getFileType());
-            LOGGER.info("Received {} with DocumentId {}", fileType, processFileDto.getDocumentId());
-            inputFiles.put(fileType, getCoreCCFileResource(processFileDto));
-        } catch (IllegalArgumentException iae) {
-            LOGGER.warn("Unexpected filetype {}, file {} won't be added to CoreCCRequest", processFileDto.getFileType(), processFileDto.getFilename());
+    private static EnumMap<FileType, ProcessFileDto> getInputFilesByType(final List<ProcessFileDto> inputFiles) {
+        final EnumMap<FileType, ProcessFileDto> inputFilesByType = new EnumMap<>(FileType.class);
+        for (ProcessFileDto processFileDto : inputFiles) {
+            try {
+                final FileType fileType = FileType.valueOf(processFileDto.getFileType());
+                LOGGER.info("Received {} with DocumentId {}", fileType, processFileDto.getDocumentId());
+                inputFilesByType.put(fileType, processFileDto);
+            } catch (IllegalArgumentException iae) {
+                LOGGER.warn("Unexpected filetype {}, file {} won't be added to CoreCCRequest", processFileDto.getFileType(), processFileDto.getFilename());
+            }
         }
+        return inputFilesByType;
+    }
+
+    /**
+     * Signs the input files in parallel, their signed URLs being kept until the request is built.
+     */
+    private EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> signInputFiles(final EnumMap<FileType, ProcessFileDto> inputFilesByType) {
+        final EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> inputFilesSigning = new EnumMap<>(FileType.class);
+        inputFilesByType.forEach((fileType, processFileDto) -> inputFilesSigning.put(fileType, presignedUrlService.signAsync(processFileDto)));
+        return inputFilesSigning;
     }
 
-    private CoreCCFileResource getCoreCCFileResource(final ProcessFileDto processFileDto) {
-        final String filename = processFileDto.getFilename();
-        final String fileUrl = minioAdapter.generatePreSignedUrlFromFullMinioPath(processFileDto.getFilePath(), 1);
-        return new CoreCCFileResource(filename, fileUrl);
+    private EnumMap<FileType, CoreCCFileResource> getInputFileResources(final EnumMap<FileType, ProcessFileDto> inputFilesByType,
+                                                                        final EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> inputFilesSigning) {
+        final EnumMap<FileType, CoreCCFileResource> inputFilesMap = new EnumMap<>(FileType.class);
+        inputFilesByType.forEach((fileType, processFileDto) ->
+                inputFilesMap.put(fileType, presignedUrlService.getFileResource(processFileDto, inputFilesSigning.get(fileType).join())));
+        return inputFilesMap;
+    }
+
+    private static CompletableFuture<Void> awaitInputFilesSigning(final EnumMap<FileType, CompletableFuture<PresignedUrlService.SignedFileResource>> inputFilesSigning) {
+        return CompletableFuture.allOf(inputFilesSigning.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> {
+                    throw new CoreCCAdapterException("Error occurred during generation of presigned URLs of input files", e instanceof CompletionException ? e.getCause() : e);
+                });
     }
 
     private String getCurrentRunId(final TaskDto taskDto) {
-        final List<ProcessRunDto> runHistory = taskDto.getRunHistory();
-        if (runHistory == null || runHistory.isEmpty()) {
-            LOGGER.warn("Failed to handle manual run request on timestamp {} because it has no run history", taskDto.getTimestamp());
-            throw new CoreCCAdapterException("Failed to handle manual run request on timestamp because it has no run history");
-        }
-        runHistory.sort((o1, o2) -> o2.getExecutionDate().compareTo(o1.getExecutionDate()));
-        return runHistory.get(0).getId().toString();
+        return runHistoryIndex.getLatestRunId(taskDto)
+                .map(UUID::toString)
+                .orElseThrow(() -> {
+                    LOGGER.warn("Failed to handle manual run request on timestamp {} because it has no run history", taskDto.getTimestamp());
+                    return new CoreCCAdapterException("Failed to handle manual run request on timestamp because it has no run history");
+                });
     }
 
     private List<TaskParameterDto> getParametersToUse(List<TaskParameterDto> processParameters, List<TaskParameterDto> runParameters) {
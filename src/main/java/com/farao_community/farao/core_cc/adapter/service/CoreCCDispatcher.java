@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.DispatchConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.starter.CoreCCClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends the requests to the core-cc runner on a dedicated bounded executor, the sending being blocking.
+ * Requests are built right before being sent, so that the presigned URLs they hold are as fresh as possible.
+ * When the queue is full, the request is either sent by the calling thread or rejected, depending on the configured policy.
+ * A request that could not be sent sets its task in error.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class CoreCCDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoreCCDispatcher.class);
+    private static final String TASK_STATUS_UPDATE = "task-status-update";
+    private static final String METRIC_PREFIX = "core-cc-adapter.dispatch";
+
+    private final CoreCCClient coreCCClient;
+    private final StreamBridge streamBridge;
+    private final Logger eventsLogger;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final Timer latencyTimer;
+    private final Counter failureCounter;
+    private final Counter rejectionCounter;
+
+    public CoreCCDispatcher(CoreCCClient coreCCClient, StreamBridge streamBridge, Logger eventsLogger, DispatchConfiguration dispatchConfiguration, MeterRegistry meterRegistry) {
+        this.coreCCClient = coreCCClient;
+        this.streamBridge = streamBridge;
+        this.eventsLogger = eventsLogger;
+        this.dispatchExecutor = new ThreadPoolExecutor(dispatchConfiguration.threads(), dispatchConfiguration.threads(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(dispatchConfiguration.maxQueuedDispatches()), getThreadFactory(dispatchConfiguration.threadPolicy()),
+                getRejectionHandler(dispatchConfiguration.rejectionPolicy()));
+        this.latencyTimer = Timer.builder(METRIC_PREFIX + ".latency")
+                .description("Time between the submission of a request to the core-cc runner and the end of its sending")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("Number of requests that could not be sent to the core-cc runner")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Number of requests that found the dispatch queue full")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue-depth", dispatchExecutor.getQueue(), BlockingQueue::size)
+                .description("Number of requests waiting to be sent to the core-cc runner")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param requestSupplier builds the request of the task, called on the dispatch thread
+     * @return a future completed once the request has been sent, or completed exceptionally if it could not be built or sent
+     * @throws LaunchRejectedException if the request is rejected because the dispatch queue is full
+     */
+    public CompletableFuture<Void> dispatch(final UUID taskId, final OffsetDateTime timestamp, final Supplier<CoreCCRequest> requestSupplier) {
+        final long submissionTime = System.nanoTime();
+        final CompletableFuture<Void> dispatch;
+        try {
+            dispatch = CompletableFuture.runAsync(() -> coreCCClient.run(requestSupplier.get()), dispatchExecutor);
+        } catch (LaunchRejectedException e) {
+            setTaskInError(taskId, timestamp);
+            throw e;
+        }
+        dispatch.whenComplete((result, throwable) -> {
+            latencyTimer.record(System.nanoTime() - submissionTime, TimeUnit.NANOSECONDS);
+            if (throwable == null) {
+                LOGGER.info("Request of task {} sent to the core-cc runner", timestamp);
+            } else {
+                onFailure(taskId, timestamp, throwable);
+            }
+        });
+        return dispatch;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Queued requests are still sent before the executor terminates
+        dispatchExecutor.shutdown();
+    }
+
+    private void onFailure(final UUID taskId, final OffsetDateTime timestamp, final Throwable throwable) {
+        failureCounter.increment();
+        LOGGER.error("Failed to send request of task {} to the core-cc runner", timestamp, throwable);
+        setTaskInError(taskId, timestamp);
+    }
+
+    private void setTaskInError(final UUID taskId, final OffsetDateTime timestamp) {
+        eventsLogger.error("Failed to launch task on TS {}: request could not be sent to the core-cc runner", timestamp);
+        streamBridge.send(TASK_STATUS_UPDATE, new TaskStatusUpdate(taskId, TaskStatus.ERROR));
+    }
+
+    private static ThreadFactory getThreadFactory(final DispatchConfiguration.ThreadPolicy threadPolicy) {
+        return switch (threadPolicy) {
+            case PLATFORM -> Executors.defaultThreadFactory();
+            case VIRTUAL -> Thread.ofVirtual().name("core-cc-dispatch-", 0).factory();
+        };
+    }
+
+    private RejectedExecutionHandler getRejectionHandler(final DispatchConfiguration.RejectionPolicy rejectionPolicy) {
+        return switch (rejectionPolicy) {
+            case CALLER_RUNS -> (runnable, executor) -> {
+                rejectionCounter.increment();
+                new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(runnable, executor);
+            };
+            case FAIL -> (runnable, executor) -> {
+                rejectionCounter.increment();
+                throw new LaunchRejectedException("Dispatch queue is full, request not sent to the core-cc runner");
+            };
+        };
+    }
+}
@@ -6,17 +6,23 @@
  */
 package com.farao_community.farao.core_cc.adapter.service;
 
+import com.farao_community.farao.core_cc.adapter.configuration.RaoRequestConfiguration;
 import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
-import com.farao_community.farao.core_cc.adapter.util.JaxbUtil;
-import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
-import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -25,24 +31,77 @@ import java.io.InputStream;
 @Service
 public class FileImporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileImporter.class);
+    private static final String RAOREQUEST_READS_METRIC = "core-cc-adapter.raorequest.reads";
 
     private final UrlValidationService urlValidationService;
+    private final RaoRequestReader raoRequestReader;
+    private final MinioAdapter minioAdapter;
+    private final RaoRequestConfiguration raoRequestConfiguration;
+    private final Counter minioReadCounter;
+    private final Counter presignedUrlReadCounter;
 
-    public FileImporter(UrlValidationService urlValidationService) {
+    public FileImporter(UrlValidationService urlValidationService, RaoRequestReader raoRequestReader, MinioAdapter minioAdapter,
+                        RaoRequestConfiguration raoRequestConfiguration, MeterRegistry meterRegistry) {
         this.urlValidationService = urlValidationService;
+        this.raoRequestReader = raoRequestReader;
+        this.minioAdapter = minioAdapter;
+        this.raoRequestConfiguration = raoRequestConfiguration;
+        this.minioReadCounter = Counter.builder(RAOREQUEST_READS_METRIC)
+                .description("Number of RAOREQUEST files read, by source")
+                .tag("source", "minio")
+                .register(meterRegistry);
+        this.presignedUrlReadCounter = Counter.builder(RAOREQUEST_READS_METRIC)
+                .description("Number of RAOREQUEST files read, by source")
+                .tag("source", "presigned-url")
+                .register(meterRegistry);
     }
 
-    public RequestMessage importRaoRequest(final CoreCCFileResource raoRequestFileResource) throws RaoRequestImportException {
-        try (InputStream raoRequestInputStream = urlValidationService.openUrlStream(raoRequestFileResource.getUrl())) {
-            return JaxbUtil.unmarshalContent(RequestMessage.class, raoRequestInputStream);
+    public Optional<List<String>> importDocumentIdsFromRaoRequest(final ProcessFileDto raoRequestProcessFile, final Instant timestamp) throws RaoRequestImportException {
+        try (InputStream raoRequestInputStream = openRaoRequestStream(raoRequestProcessFile)) {
+            return raoRequestReader.readDocumentIds(raoRequestInputStream, timestamp);
         } catch (IOException e) {
-            final String errorMessage = String.format("Cannot download rao request file from URL '%s'", raoRequestFileResource.getUrl());
+            throw getDownloadException(raoRequestProcessFile, e);
+        } catch (XMLStreamException | DateTimeException e) {
+            final String errorMessage = "Error occurred when reading document IDs from RAOREQUEST file";
             LOGGER.error(errorMessage);
             throw new RaoRequestImportException(errorMessage, e);
-        } catch (JAXBException e) {
-            final String errorMessage = "Error occurred when converting InputStream to object of type RequestMessage";
+        }
+    }
+
+    public RaoRequestIndex importRaoRequestIndex(final ProcessFileDto raoRequestProcessFile) throws RaoRequestImportException {
+        try (InputStream raoRequestInputStream = openRaoRequestStream(raoRequestProcessFile)) {
+            return raoRequestReader.readIndex(raoRequestInputStream);
+        } catch (IOException e) {
+            throw getDownloadException(raoRequestProcessFile, e);
+        } catch (XMLStreamException | DateTimeException e) {
+            final String errorMessage = "Error occurred when indexing RAOREQUEST file";
             LOGGER.error(errorMessage);
             throw new RaoRequestImportException(errorMessage, e);
         }
     }
+
+    /**
+     * The RAOREQUEST file is read directly from MinIO when enabled, falling back to a download from a presigned URL.
+     */
+    private InputStream openRaoRequestStream(final ProcessFileDto raoRequestProcessFile) {
+        final String filePath = raoRequestProcessFile.getFilePath();
+        if (raoRequestConfiguration.minioDirectRead()) {
+            try {
+                final InputStream inputStream = minioAdapter.getFileFromFullPath(filePath);
+                minioReadCounter.increment();
+                return inputStream;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot read RAOREQUEST file {} from MinIO, falling back to presigned URL", filePath, e);
+            }
+        }
+        final InputStream inputStream = urlValidationService.openUrlStream(minioAdapter.generatePreSignedUrlFromFullMinioPath(filePath, 1));
+        presignedUrlReadCounter.increment();
+        return inputStream;
+    }
+
+    private static RaoRequestImportException getDownloadException(final ProcessFileDto raoRequestProcessFile, final IOException e) {
+        final String errorMessage = String.format("Cannot download rao request file '%s'", raoRequestProcessFile.getFilePath());
+        LOGGER.error(errorMessage);
+        return new RaoRequestImportException(errorMessage, e);
+    }
 }
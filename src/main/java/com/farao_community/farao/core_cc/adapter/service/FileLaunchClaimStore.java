@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Launch claims stored as files in a directory shared by all the instances of the adapter.
+ * Each claim file contains the id of the launch owning the claim and its expiration date;
+ * claim files are read and written while holding an exclusive lock on a lock file of the directory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class FileLaunchClaimStore implements LaunchClaimStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileLaunchClaimStore.class);
+    private static final String LOCK_FILE_NAME = ".lock";
+    private static final String CLAIM_FILE_EXTENSION = ".claim";
+    private static final Object JVM_LOCK = new Object();
+
+    private final Path directory;
+    private final Duration claimDuration;
+
+    public FileLaunchClaimStore(final Path directory, final Duration claimDuration) {
+        this.directory = directory;
+        this.claimDuration = claimDuration;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new CoreCCAdapterException(String.format("Cannot create launch claims directory %s", directory), e);
+        }
+    }
+
+    @Override
+    public boolean tryClaim(final String timestamp, final String claimant) {
+        return withLock(() -> {
+            final Path claimFile = getClaimFile(timestamp);
+            if (Files.exists(claimFile)) {
+                final String claim = Files.readString(claimFile, StandardCharsets.UTF_8);
+                if (isActive(claim)) {
+                    LOGGER.debug("Timestamp {} already claimed: {}", timestamp, claim);
+                    return false;
+                }
+            }
+            final long expiration = System.currentTimeMillis() + claimDuration.toMillis();
+            Files.writeString(claimFile, claimant + " " + expiration, StandardCharsets.UTF_8);
+            return true;
+        });
+    }
+
+    @Override
+    public void release(final String timestamp, final String claimant) {
+        withLock(() -> {
+            final Path claimFile = getClaimFile(timestamp);
+            if (Files.exists(claimFile) && Files.readString(claimFile, StandardCharsets.UTF_8).startsWith(claimant + " ")) {
+                Files.delete(claimFile);
+            }
+            return true;
+        });
+    }
+
+    private static boolean isActive(final String claim) {
+        final String[] claimParts = claim.split(" ");
+        try {
+            return claimParts.length == 2 && Long.parseLong(claimParts[1]) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            // A corrupted claim cannot prevent launches
+            return false;
+        }
+    }
+
+    private Path getClaimFile(final String timestamp) {
+        return directory.resolve(LaunchClaimStore.getClaimKey(timestamp).replaceAll("[^A-Za-z0-9-]", "_") + CLAIM_FILE_EXTENSION);
+    }
+
+    /**
+     * File locks are held on behalf of the whole JVM: threads of the JVM are serialized by synchronization.
+     */
+    private boolean withLock(final LockedOperation operation) {
+        synchronized (JVM_LOCK) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return operation.run();
+            } catch (IOException e) {
+                throw new CoreCCAdapterException(String.format("Error occurred while accessing launch claims in %s", directory), e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LockedOperation {
+        boolean run() throws IOException;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Launch claims stored in memory: only suitable when a single instance of the adapter is deployed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class InMemoryLaunchClaimStore implements LaunchClaimStore {
+    private final long claimDurationNanos;
+    private final Map<String, Claim> claims = new ConcurrentHashMap<>();
+
+    public InMemoryLaunchClaimStore(final Duration claimDuration) {
+        this.claimDurationNanos = claimDuration.toNanos();
+    }
+
+    @Override
+    public boolean tryClaim(final String timestamp, final String claimant) {
+        final long now = System.nanoTime();
+        final Claim claim = new Claim(claimant, now + claimDurationNanos);
+        final Claim currentClaim = claims.merge(LaunchClaimStore.getClaimKey(timestamp), claim,
+                (existingClaim, newClaim) -> existingClaim.expiration() - now > 0 ? existingClaim : newClaim);
+        return currentClaim == claim;
+    }
+
+    @Override
+    public void release(final String timestamp, final String claimant) {
+        claims.computeIfPresent(LaunchClaimStore.getClaimKey(timestamp),
+                (key, claim) -> claim.claimant().equals(claimant) ? null : claim);
+    }
+
+    private record Claim(String claimant, long expiration) {
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the document IDs requested by a RAOREQUEST file against the available inputs of a task.
+ * The available inputs are indexed by document ID once, then every requested document is resolved in a single pass,
+ * so that all the missing documents are reported at once instead of failing on the first one.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class InputResolver {
+
+    private InputResolver() {
+        // Utility class
+    }
+
+    static Resolution resolve(final List<ProcessFileDto> availableInputs, final List<String> documentIds) {
+        final Map<String, List<ProcessFileDto>> inputsByDocumentId = new HashMap<>();
+        for (ProcessFileDto availableInput : availableInputs) {
+            if (availableInput.getDocumentId() != null) {
+                inputsByDocumentId.computeIfAbsent(availableInput.getDocumentId(), id -> new ArrayList<>(1)).add(availableInput);
+            }
+        }
+
+        final List<ProcessFileDto> resolvedFiles = new ArrayList<>(documentIds.size());
+        final List<String> missingDocumentIds = new ArrayList<>();
+        final Map<String, List<ProcessFileDto>> duplicateDocuments = new LinkedHashMap<>();
+        for (String documentId : documentIds) {
+            final List<ProcessFileDto> matchingInputs = inputsByDocumentId.get(documentId);
+            if (matchingInputs == null) {
+                missingDocumentIds.add(documentId);
+            } else {
+                // As before, the first matching file is used even if the document ID is ambiguous
+                resolvedFiles.add(matchingInputs.getFirst());
+                if (matchingInputs.size() > 1) {
+                    duplicateDocuments.put(documentId, List.copyOf(matchingInputs));
+                }
+            }
+        }
+        return new Resolution(resolvedFiles, missingDocumentIds, duplicateDocuments);
+    }
+
+    /**
+     * @param resolvedFiles the file matching each found document ID, in the order of the requested document IDs
+     * @param missingDocumentIds the requested document IDs matching no available input
+     * @param duplicateDocuments the requested document IDs matching several available inputs, with these inputs
+     */
+    record Resolution(List<ProcessFileDto> resolvedFiles, List<String> missingDocumentIds, Map<String, List<ProcessFileDto>> duplicateDocuments) {
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+/**
+ * Outcome of the launch of a single timestamp, as reported by batch launches.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record JobLaunchOutcome(String timestamp, Status status, String message) {
+
+    public enum Status {
+        LAUNCHED,
+        NOT_READY,
+        NOT_FOUND,
+        ALREADY_BEING_LAUNCHED,
+        REJECTED,
+        FAILED
+    }
+}
@@ -6,10 +6,16 @@
  */
 package com.farao_community.farao.core_cc.adapter.service;
 
+import com.farao_community.farao.core_cc.adapter.configuration.AutoLaunchConfiguration;
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -17,68 +23,268 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
+ * Task updates are handled on a bounded pool of threads: updates of a same timestamp are handled sequentially,
+ * while different timestamps are handled in parallel. Only the latest update of a timestamp received during
+ * the coalescing window, or while a previous update of the timestamp is being handled, is handled.
+ * When partitioning is enabled, only the updates of the timestamps owned by this instance are handled. The latest update
+ * of the other timestamps is kept during the takeover window, and handled if the timestamp moves to this instance.
+ * The launch of a task which is not READY yet is prepared as soon as its RAOREQUEST file is available.
+ * A launch waits for admission in the {@link LaunchScheduler} without holding its thread, but further updates of its
+ * timestamp are only handled once it is done.
+ *
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  * @author Vincent Bochet {@literal <vincnt.bochet at rte-france.com>}
  */
 @Service
 public class JobLauncherAutoService {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherAutoService.class);
+    private static final String TASK_ID_MDC_KEY = "gridcapa-task-id";
+    private static final String AUTO_LAUNCH_METRIC_PREFIX = "core-cc-adapter.auto-launch";
 
     private final CoreCCAdapterConfiguration coreCCAdapterConfiguration;
     private final CoreCCAdapterService adapterService;
+    private final RecentTaskView recentTaskView;
+    private final RunHistoryIndex runHistoryIndex;
+    private final LaunchRegistry launchRegistry;
+    private final PartitionOwnership partitionOwnership;
+    private final LaunchScheduler launchScheduler;
+    private final KeyedSequentialExecutor<Instant> taskUpdateExecutor;
+    private final LatestWinsCoalescer<Instant, TaskDto> taskUpdateCoalescer;
+    private final Map<Instant, NotOwnedUpdate> notOwnedUpdates = new LinkedHashMap<>();
+    private final Object ownershipLock = new Object();
+    private final int maxNotOwnedUpdates;
+    private final long takeoverWindowNanos;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter batchDeduplicatedCounter;
+    private final Counter notOwnedCounter;
+    private final Counter takenOverCounter;
 
-    public JobLauncherAutoService(CoreCCAdapterConfiguration coreCCAdapterConfiguration, CoreCCAdapterService adapterService) {
+    public JobLauncherAutoService(CoreCCAdapterConfiguration coreCCAdapterConfiguration, CoreCCAdapterService adapterService, RecentTaskView recentTaskView,
+                                  RunHistoryIndex runHistoryIndex, LaunchRegistry launchRegistry, PartitionOwnership partitionOwnership, LaunchScheduler launchScheduler,
+                                  AutoLaunchConfiguration autoLaunchConfiguration, MeterRegistry meterRegistry) {
         this.coreCCAdapterConfiguration = coreCCAdapterConfiguration;
         this.adapterService = adapterService;
+        this.recentTaskView = recentTaskView;
+        this.runHistoryIndex = runHistoryIndex;
+        this.launchRegistry = launchRegistry;
+        this.partitionOwnership = partitionOwnership;
+        this.launchScheduler = launchScheduler;
+        this.taskUpdateExecutor = new KeyedSequentialExecutor<>(autoLaunchConfiguration.concurrency(), autoLaunchConfiguration.maxPendingUpdates(),
+                AUTO_LAUNCH_METRIC_PREFIX, meterRegistry);
+        this.taskUpdateCoalescer = new LatestWinsCoalescer<>(autoLaunchConfiguration.coalescingWindow(), autoLaunchConfiguration.maxPendingUpdates(),
+                taskUpdateExecutor, this::handleTaskUpdate, AUTO_LAUNCH_METRIC_PREFIX, meterRegistry);
+        this.maxNotOwnedUpdates = autoLaunchConfiguration.maxPendingUpdates();
+        // The owner may also have stopped before handling the updates it received during its coalescing window
+        this.takeoverWindowNanos = partitionOwnership.getTakeoverWindow().plus(autoLaunchConfiguration.coalescingWindow()).toNanos();
+        this.batchSizeSummary = DistributionSummary.builder(AUTO_LAUNCH_METRIC_PREFIX + ".batch.size")
+                .description("Number of task updates received in a batch")
+                .register(meterRegistry);
+        this.batchDeduplicatedCounter = Counter.builder(AUTO_LAUNCH_METRIC_PREFIX + ".batch.deduplicated")
+                .description("Number of task updates dropped because a newer update of the same timestamp was received in the same batch")
+                .register(meterRegistry);
+        this.notOwnedCounter = Counter.builder(AUTO_LAUNCH_METRIC_PREFIX + ".not-owned")
+                .description("Number of task updates ignored because their timestamp is owned by another instance")
+                .register(meterRegistry);
+        this.takenOverCounter = Counter.builder(AUTO_LAUNCH_METRIC_PREFIX + ".taken-over")
+                .description("Number of task updates handled after their timestamp moved from another instance to this one")
+                .register(meterRegistry);
+        partitionOwnership.onMembersChange(this::takeOverNotOwnedUpdates);
     }
 
     @Bean
     public Consumer<Flux<TaskDto>> consumeTaskDtoUpdate() {
         return f -> f
                 .onErrorContinue((t, r) -> LOGGER.error(t.getMessage(), t))
-                .subscribe(this::runReadyTasks);
+                .subscribe(this::submitTaskUpdate);
     }
 
-    void runReadyTasks(final TaskDto updatedTaskDto) {
+    /**
+     * Batch counterpart of {@link #consumeTaskDtoUpdate()}, to be selected in spring.cloud.function.definition
+     * along with the binder batch mode: only the latest update of each timestamp of a batch is handled.
+     */
+    @Bean
+    public Consumer<List<TaskDto>> consumeTaskDtoUpdateBatch() {
+        return this::submitTaskUpdates;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskUpdateCoalescer.shutdown();
+        taskUpdateExecutor.shutdown();
+    }
+
+    void submitTaskUpdate(final TaskDto updatedTaskDto) {
+        if (updatedTaskDto == null || updatedTaskDto.getTimestamp() == null) {
+            runReadyTasks(updatedTaskDto);
+            return;
+        }
+        submitOwnedTaskUpdate(updatedTaskDto.getTimestamp().toInstant(), updatedTaskDto);
+    }
+
+    void submitTaskUpdates(final List<TaskDto> updatedTaskDtos) {
+        batchSizeSummary.record(updatedTaskDtos.size());
+        final Map<Instant, TaskDto> latestUpdates = new LinkedHashMap<>();
+        for (TaskDto updatedTaskDto : updatedTaskDtos) {
+            if (updatedTaskDto == null || updatedTaskDto.getTimestamp() == null) {
+                runReadyTasks(updatedTaskDto);
+            } else if (latestUpdates.put(updatedTaskDto.getTimestamp().toInstant(), updatedTaskDto) != null) {
+                batchDeduplicatedCounter.increment();
+            }
+        }
+        latestUpdates.forEach(this::submitOwnedTaskUpdate);
+    }
+
+    /**
+     * Ownership is checked under a lock shared with the takeover of the kept updates, so that a kept update
+     * can never be submitted after a newer update of the same timestamp.
+     */
+    private void submitOwnedTaskUpdate(final Instant timestamp, final TaskDto updatedTaskDto) {
+        synchronized (ownershipLock) {
+            if (partitionOwnership.owns(timestamp)) {
+                notOwnedUpdates.remove(timestamp);
+                taskUpdateCoalescer.submit(timestamp, updatedTaskDto);
+                return;
+            }
+            keepNotOwnedUpdate(timestamp, updatedTaskDto);
+        }
+        // The update is handled by the instance owning the timestamp, but the view is kept fresh for manual launches
+        recentTaskView.update(updatedTaskDto);
+        notOwnedCounter.increment();
+    }
+
+    private void keepNotOwnedUpdate(final Instant timestamp, final TaskDto updatedTaskDto) {
+        final long now = System.nanoTime();
+        // Removing the previous update first keeps the updates ordered by reception time
+        notOwnedUpdates.remove(timestamp);
+        notOwnedUpdates.put(timestamp, new NotOwnedUpdate(updatedTaskDto, now));
+        final Iterator<NotOwnedUpdate> oldestUpdates = notOwnedUpdates.values().iterator();
+        while (oldestUpdates.hasNext()) {
+            final NotOwnedUpdate oldestUpdate = oldestUpdates.next();
+            if (now - oldestUpdate.receptionTime() <= takeoverWindowNanos && notOwnedUpdates.size() <= maxNotOwnedUpdates) {
+                break;
+            }
+            oldestUpdates.remove();
+        }
+    }
+
+    private void takeOverNotOwnedUpdates() {
+        synchronized (ownershipLock) {
+            final long now = System.nanoTime();
+            final Iterator<Map.Entry<Instant, NotOwnedUpdate>> keptUpdates = notOwnedUpdates.entrySet().iterator();
+            while (keptUpdates.hasNext()) {
+                final Map.Entry<Instant, NotOwnedUpdate> keptUpdate = keptUpdates.next();
+                if (now - keptUpdate.getValue().receptionTime() > takeoverWindowNanos) {
+                    keptUpdates.remove();
+                } else if (partitionOwnership.owns(keptUpdate.getKey())) {
+                    keptUpdates.remove();
+                    LOGGER.info("Taking over update of task {} from another instance", keptUpdate.getKey());
+                    takenOverCounter.increment();
+                    taskUpdateCoalescer.submit(keptUpdate.getKey(), keptUpdate.getValue().taskDto());
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Void> handleTaskUpdate(final TaskDto updatedTaskDto) {
         try {
+            return runReadyTasks(updatedTaskDto);
+        } finally {
+            // Worker threads are shared between tasks: the task id must not leak into the logs of the next update
+            MDC.remove(TASK_ID_MDC_KEY);
+        }
+    }
+
+    /**
+     * @return a future completed once the launch of the task, if any, is done
+     */
+    CompletableFuture<Void> runReadyTasks(final TaskDto updatedTaskDto) {
+        try {
+            recentTaskView.update(updatedTaskDto);
             if (isTaskReadyToBeLaunched(updatedTaskDto)) {
                 final boolean autoTriggerFiletypesDefinedInConfig = !coreCCAdapterConfiguration.autoTriggerFiletypes().isEmpty();
                 if (autoTriggerFiletypesDefinedInConfig && allTriggerFilesAlreadyUsed(updatedTaskDto)) {
                     // If all selected files corresponding to trigger filetypes are linked to some Run in Task's history,
                     // then the update does not concern a trigger file, so job launcher should do nothing
-                    return;
+                    return CompletableFuture.completedFuture(null);
                 }
 
                 // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
                 // This should be done only once, as soon as the information to add in mdc is available.
-                MDC.put("gridcapa-task-id", updatedTaskDto.getId().toString());
+                MDC.put(TASK_ID_MDC_KEY, updatedTaskDto.getId().toString());
 
-                adapterService.handleTask(updatedTaskDto, true);
+                return launchTask(updatedTaskDto);
+            } else if (isTaskWorthPreparing(updatedTaskDto)) {
+                adapterService.prepareLaunch(updatedTaskDto);
             }
         } catch (Exception e) {
             // this exeption block avoids application from disconnecting from spring cloud stream !
             LOGGER.error(e.getMessage(), e);
         }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> launchTask(final TaskDto taskDto) {
+        final Optional<LaunchRegistry.Launch> launchOpt = launchRegistry.tryStart(taskDto.getTimestamp().toString(), LaunchRegistry.Source.AUTOMATIC);
+        if (launchOpt.isEmpty()) {
+            LOGGER.info("Task {} already being launched, skipping automatic launch", taskDto.getTimestamp());
+            return CompletableFuture.completedFuture(null);
+        }
+        final LaunchRegistry.Launch launch = launchOpt.get();
+        CompletableFuture<Void> launching;
+        try {
+            launch.setStage(LaunchRegistry.Stage.QUEUED);
+            launching = launchScheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> {
+                if (launchRegistry.tryClaim(launch)) {
+                    return adapterService.handleTask(taskDto, true);
+                }
+                LOGGER.info("Task {} already being launched by another instance, skipping automatic launch", taskDto.getTimestamp());
+                return CompletableFuture.completedFuture(null);
+            });
+        } catch (RuntimeException e) {
+            launching = CompletableFuture.failedFuture(e);
+        }
+        return launching.handle((result, throwable) -> {
+            if (throwable instanceof LaunchRejectedException) {
+                LOGGER.warn("Automatic launch of task {} rejected: {}", taskDto.getTimestamp(), throwable.getMessage());
+            } else if (throwable != null) {
+                LOGGER.error(throwable.getMessage(), throwable);
+            }
+            launchRegistry.finish(launch);
+            return null;
+        });
     }
 
     private static boolean isTaskReadyToBeLaunched(final TaskDto updatedTaskDto) {
         return updatedTaskDto.getStatus() == TaskStatus.READY;
     }
 
+    /**
+     * A launch is prepared as soon as the RAOREQUEST file and some other input files of a task are available.
+     */
+    private static boolean isTaskWorthPreparing(final TaskDto updatedTaskDto) {
+        return (updatedTaskDto.getStatus() == TaskStatus.CREATED || updatedTaskDto.getStatus() == TaskStatus.NOT_CREATED)
+                && updatedTaskDto.getInputs() != null
+                && updatedTaskDto.getInputs().size() > 1
+                && updatedTaskDto.getInputs().stream().anyMatch(f -> "RAOREQUEST".equals(f.getFileType()));
+    }
+
     private boolean allTriggerFilesAlreadyUsed(final TaskDto updatedTaskDto) {
         final List<ProcessFileDto> triggerFiles = updatedTaskDto.getInputs().stream()
                 .filter(f -> coreCCAdapterConfiguration.autoTriggerFiletypes().contains(f.getFileType()))
                 .toList();
+        return runHistoryIndex.allFilesUsed(updatedTaskDto, triggerFiles);
+    }
 
-        final Set<ProcessFileDto> filesUsedInPreviousRun = updatedTaskDto.getRunHistory().stream()
-                .flatMap(run -> run.getInputs().stream())
-                .collect(Collectors.toSet());
-        return filesUsedInPreviousRun.containsAll(triggerFiles);
+    private record NotOwnedUpdate(TaskDto taskDto, long receptionTime) {
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.BatchLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.ProcessConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Launches all the timestamps of a business day, or of a range of timestamps, in a single request.
+ * Timestamps are launched with a bounded concurrency; as they share the same RAOREQUEST file,
+ * it is downloaded and parsed once per batch through {@link RaoRequestIndexes}.
+ * The outcomes are completed once all the launches are done, without holding the calling thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class JobLauncherBatchService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherBatchService.class);
+    private static final Duration TIMESTAMP_STEP = Duration.ofHours(1);
+
+    private final JobLauncherManualService jobLauncherManualService;
+    private final ProcessConfiguration processConfiguration;
+    private final BatchLaunchConfiguration batchLaunchConfiguration;
+    private final ExecutorService launchExecutor;
+
+    public JobLauncherBatchService(JobLauncherManualService jobLauncherManualService, ProcessConfiguration processConfiguration, BatchLaunchConfiguration batchLaunchConfiguration) {
+        this.jobLauncherManualService = jobLauncherManualService;
+        this.processConfiguration = processConfiguration;
+        this.batchLaunchConfiguration = batchLaunchConfiguration;
+        this.launchExecutor = Executors.newFixedThreadPool(batchLaunchConfiguration.concurrency());
+    }
+
+    /**
+     * @throws LaunchRejectedException if the adapter is shutting down
+     */
+    public CompletableFuture<List<JobLaunchOutcome>> launchBusinessDay(final LocalDate businessDate, final List<TaskParameterDto> parameters) {
+        final Instant dayStart = businessDate.atStartOfDay(processConfiguration.timezone()).toInstant();
+        final Instant dayEnd = businessDate.plusDays(1).atStartOfDay(processConfiguration.timezone()).toInstant();
+        LOGGER.info("Received order to launch business day {}", businessDate);
+        return launchTimestamps(getTimestamps(dayStart.plus(batchLaunchConfiguration.firstTimestampOffset()), dayEnd), parameters);
+    }
+
+    /**
+     * Launches the hourly timestamps from {@code from} to {@code to}, both included.
+     *
+     * @throws LaunchRejectedException if the adapter is shutting down
+     */
+    public CompletableFuture<List<JobLaunchOutcome>> launchTimestampRange(final OffsetDateTime from, final OffsetDateTime to, final List<TaskParameterDto> parameters) {
+        if (to.isBefore(from)) {
+            throw new CoreCCAdapterException(String.format("Invalid timestamp range: %s is before %s", to, from));
+        }
+        LOGGER.info("Received order to launch timestamps from {} to {}", from, to);
+        return launchTimestamps(getTimestamps(from.toInstant(), to.toInstant().plusNanos(1)), parameters);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        launchExecutor.shutdownNow();
+    }
+
+    private List<String> getTimestamps(final Instant startInclusive, final Instant endExclusive) {
+        final List<String> timestamps = new ArrayList<>();
+        for (Instant timestamp = startInclusive; timestamp.isBefore(endExclusive); timestamp = timestamp.plus(TIMESTAMP_STEP)) {
+            if (timestamps.size() == batchLaunchConfiguration.maxTimestamps()) {
+                throw new CoreCCAdapterException(String.format("Batch launch is limited to %d timestamps", batchLaunchConfiguration.maxTimestamps()));
+            }
+            timestamps.add(timestamp.atOffset(ZoneOffset.UTC).toString());
+        }
+        return timestamps;
+    }
+
+    private CompletableFuture<List<JobLaunchOutcome>> launchTimestamps(final List<String> timestamps, final List<TaskParameterDto> parameters) {
+        final RaoRequestIndexes raoRequestIndexes = new RaoRequestIndexes();
+        final List<CompletableFuture<JobLaunchOutcome>> launches = new ArrayList<>();
+        try {
+            for (final String timestamp : timestamps) {
+                launches.add(CompletableFuture.supplyAsync(() -> launchTimestamp(timestamp, parameters, raoRequestIndexes), launchExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            launches.forEach(launch -> launch.cancel(false));
+            throw new LaunchRejectedException("Batch launch rejected, the adapter is shutting down");
+        }
+        return CompletableFuture.allOf(launches.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            final List<JobLaunchOutcome> outcomes = launches.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            LOGGER.info("Batch launch of {} timestamps done: {} launched", outcomes.size(),
+                    outcomes.stream().filter(outcome -> outcome.status() == JobLaunchOutcome.Status.LAUNCHED).count());
+            return outcomes;
+        });
+    }
+
+    private JobLaunchOutcome launchTimestamp(final String timestamp, final List<TaskParameterDto> parameters, final RaoRequestIndexes raoRequestIndexes) {
+        try {
+            return new JobLaunchOutcome(timestamp, jobLauncherManualService.tryLaunchJobInBatch(timestamp, parameters, raoRequestIndexes), null);
+        } catch (LaunchRejectedException e) {
+            return new JobLaunchOutcome(timestamp, JobLaunchOutcome.Status.REJECTED, e.getMessage());
+        } catch (Exception e) {
+            return new JobLaunchOutcome(timestamp, JobLaunchOutcome.Status.FAILED, e.getMessage());
+        } finally {
+            MDC.remove("gridcapa-task-id");
+        }
+    }
+}
@@ -17,7 +17,9 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -27,50 +29,163 @@ import java.util.concurrent.CopyOnWriteArraySet;
 @Service
 public class JobLauncherManualService {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobLauncherManualService.class);
+    private static final String TASK_ID_MDC_KEY = "gridcapa-task-id";
 
     private final CoreCCAdapterService adapterService;
     private final Logger eventsLogger;
-    private final TaskManagerService taskManagerService;
-    private final CopyOnWriteArraySet<String> timestampsBeingLaunched = new CopyOnWriteArraySet<>();
+    private final AsyncTaskManagerService asyncTaskManagerService;
+    private final RecentTaskView recentTaskView;
+    private final LaunchRegistry launchRegistry;
+    private final LaunchScheduler launchScheduler;
 
-    public JobLauncherManualService(CoreCCAdapterService adapterService, Logger eventsLogger, TaskManagerService taskManagerService) {
+    public JobLauncherManualService(CoreCCAdapterService adapterService, Logger eventsLogger, AsyncTaskManagerService asyncTaskManagerService, RecentTaskView recentTaskView,
+                                    LaunchRegistry launchRegistry, LaunchScheduler launchScheduler) {
         this.adapterService = adapterService;
         this.eventsLogger = eventsLogger;
-        this.taskManagerService = taskManagerService;
+        this.asyncTaskManagerService = asyncTaskManagerService;
+        this.recentTaskView = recentTaskView;
+        this.launchRegistry = launchRegistry;
+        this.launchScheduler = launchScheduler;
     }
 
+    /**
+     * @throws com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException if the launch queue is full
+     */
     public void launchJob(final String timestamp, final List<TaskParameterDto> parameters) {
+        tryLaunchJob(timestamp, parameters);
+    }
+
+    /**
+     * Same as {@link #launchJob(String, List)}, without holding the calling thread while the task is fetched or the launch is queued.
+     *
+     * @return a future completed once the launch is done, or completed exceptionally with the error of the launch
+     */
+    public CompletableFuture<Void> launchJobAsync(final String timestamp, final List<TaskParameterDto> parameters) {
+        return tryLaunchJobAsync(timestamp, parameters, null, launch -> { })
+                .thenApply(status -> null);
+    }
+
+    JobLaunchOutcome.Status tryLaunchJob(final String timestamp, final List<TaskParameterDto> parameters) {
+        return tryLaunchJob(timestamp, parameters, launch -> { });
+    }
+
+    /**
+     * @param onStarted called with the launch registered for the timestamp, unless the timestamp is already being launched
+     */
+    JobLaunchOutcome.Status tryLaunchJob(final String timestamp, final List<TaskParameterDto> parameters, final Consumer<LaunchRegistry.Launch> onStarted) {
+        return awaitOutcome(tryLaunchJobAsync(timestamp, parameters, null, onStarted));
+    }
+
+    /**
+     * @param raoRequestIndexes indexes of the RAOREQUEST files shared by the launches of a batch
+     */
+    JobLaunchOutcome.Status tryLaunchJobInBatch(final String timestamp, final List<TaskParameterDto> parameters, final RaoRequestIndexes raoRequestIndexes) {
+        return awaitOutcome(tryLaunchJobAsync(timestamp, parameters, raoRequestIndexes, launch -> { }));
+    }
+
+    private CompletableFuture<JobLaunchOutcome.Status> tryLaunchJobAsync(final String timestamp, final List<TaskParameterDto> parameters,
+                                                                         final RaoRequestIndexes raoRequestIndexes, final Consumer<LaunchRegistry.Launch> onStarted) {
         final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
         LOGGER.info("Received order to launch task {}", sanifiedTimestamp);
         LOGGER.info("Adding {} to tasks being launched.", sanifiedTimestamp);
-        final boolean timestampAdded = timestampsBeingLaunched.add(sanifiedTimestamp);
-        if (!timestampAdded) {
+        final Optional<LaunchRegistry.Launch> launchOpt = launchRegistry.tryStart(timestamp, LaunchRegistry.Source.MANUAL);
+        if (launchOpt.isEmpty()) {
             LOGGER.warn("Task {} already being launched, stopping this thread.", sanifiedTimestamp);
-            return;
+            return CompletableFuture.completedFuture(JobLaunchOutcome.Status.ALREADY_BEING_LAUNCHED);
         } else {
             LOGGER.info("{} has been correctly added to tasks being launched.", sanifiedTimestamp);
         }
+        CompletableFuture<JobLaunchOutcome.Status> outcome;
+        try {
+            onStarted.accept(launchOpt.get());
+            outcome = launchTask(timestamp, parameters, raoRequestIndexes, launchOpt.get());
+        } catch (final Exception e) {
+            outcome = CompletableFuture.failedFuture(e);
+        }
+        return outcome.whenComplete((status, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Exception occured while launching task with timestamp {}", sanifiedTimestamp);
+            }
+            LOGGER.info("Removing {} from tasks being launched.", sanifiedTimestamp);
+            launchRegistry.finish(launchOpt.get());
+        });
+    }
+
+    private CompletableFuture<JobLaunchOutcome.Status> launchTask(final String timestamp, final List<TaskParameterDto> parameters, final RaoRequestIndexes raoRequestIndexes,
+                                                                  final LaunchRegistry.Launch launch) {
+        launch.setStage(LaunchRegistry.Stage.FETCHING_TASK);
+        final Optional<TaskDto> recentTaskDto = recentTaskView.get(timestamp);
+        final CompletableFuture<Optional<TaskDto>> taskFetching = recentTaskDto.isPresent() ? CompletableFuture.completedFuture(recentTaskDto) : fetchTask(timestamp);
+        return taskFetching.thenCompose(LoggingUtil.withLoggingContext(taskDtoOpt ->
+                queueTask(timestamp, taskDtoOpt, recentTaskDto.isPresent(), parameters, raoRequestIndexes, launch)));
+    }
+
+    private CompletableFuture<JobLaunchOutcome.Status> queueTask(final String timestamp, final Optional<TaskDto> taskDtoOpt, final boolean isFromView,
+                                                                 final List<TaskParameterDto> parameters, final RaoRequestIndexes raoRequestIndexes,
+                                                                 final LaunchRegistry.Launch launch) {
+        final String sanifiedTimestamp = LoggingUtil.sanifyString(timestamp);
+        if (taskDtoOpt.isEmpty()) {
+            LOGGER.error("Failed to launch task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
+            return CompletableFuture.completedFuture(JobLaunchOutcome.Status.NOT_FOUND);
+        }
+        final TaskDto taskDto = taskDtoOpt.get();
+        // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
+        // This should be done only once, as soon as the information to add in mdc is available.
+        MDC.put(TASK_ID_MDC_KEY, taskDto.getId().toString());
         try {
-            final Optional<TaskDto> taskDtoOpt = taskManagerService.getTaskFromTimestamp(timestamp);
-            if (taskDtoOpt.isPresent()) {
-                final TaskDto taskDto = taskDtoOpt.get();
-                // Propagate in logs MDC the task id as an extra field to be able to match microservices logs with calculation tasks.
-                // This should be done only once, as soon as the information to add in mdc is available.
-                MDC.put("gridcapa-task-id", taskDto.getId().toString());
-                if (isTaskReadyToBeLaunched(taskDto)) {
-                    adapterService.handleTask(taskDto, false, parameters);
-                } else {
-                    eventsLogger.warn("Failed to launch task with timestamp {} because it is not ready yet", taskDto.getTimestamp());
+            if (!isTaskReadyToBeLaunched(taskDto)) {
+                eventsLogger.warn("Failed to launch task with timestamp {} because it is not ready yet", taskDto.getTimestamp());
+                return CompletableFuture.completedFuture(JobLaunchOutcome.Status.NOT_READY);
+            }
+            launch.setStage(LaunchRegistry.Stage.QUEUED);
+            // The launch waits for admission in the queue of the scheduler, the calling thread is released meanwhile
+            return launchScheduler.submit(LaunchRegistry.Source.MANUAL, () -> {
+                if (!launchRegistry.tryClaim(launch)) {
+                    LOGGER.warn("Task {} already being launched by another instance.", sanifiedTimestamp);
+                    return CompletableFuture.completedFuture(JobLaunchOutcome.Status.ALREADY_BEING_LAUNCHED);
                 }
-            } else {
-                LOGGER.error("Failed to launch task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
+                // A task read from the view may have been launched since it was received: its status is checked again once claimed
+                final CompletableFuture<Optional<TaskDto>> claimedTaskFetching = isFromView ? fetchTask(timestamp) : CompletableFuture.completedFuture(taskDtoOpt);
+                return claimedTaskFetching.thenCompose(LoggingUtil.withLoggingContext(claimedTaskDto ->
+                        launchClaimedTask(claimedTaskDto, parameters, raoRequestIndexes, sanifiedTimestamp)));
+            });
+        } finally {
+            // The thread goes on with other work: the task id must not leak into its logs
+            MDC.remove(TASK_ID_MDC_KEY);
+        }
+    }
+
+    private CompletableFuture<JobLaunchOutcome.Status> launchClaimedTask(final Optional<TaskDto> taskDtoOpt, final List<TaskParameterDto> parameters,
+                                                                         final RaoRequestIndexes raoRequestIndexes, final String sanifiedTimestamp) {
+        if (taskDtoOpt.isEmpty()) {
+            LOGGER.error("Failed to launch task with timestamp {}: could not retrieve task from the task-manager", sanifiedTimestamp);
+            return CompletableFuture.completedFuture(JobLaunchOutcome.Status.NOT_FOUND);
+        }
+        final TaskDto taskDto = taskDtoOpt.get();
+        if (!isTaskReadyToBeLaunched(taskDto)) {
+            eventsLogger.warn("Failed to launch task with timestamp {} because it is not ready yet", taskDto.getTimestamp());
+            return CompletableFuture.completedFuture(JobLaunchOutcome.Status.NOT_READY);
+        }
+        return adapterService.handleTask(taskDto, false, parameters, raoRequestIndexes)
+                .thenApply(handled -> JobLaunchOutcome.Status.LAUNCHED);
+    }
+
+    private CompletableFuture<Optional<TaskDto>> fetchTask(final String timestamp) {
+        return asyncTaskManagerService.getTaskFromTimestamp(timestamp)
+                .thenApply(taskDtoOpt -> {
+                    taskDtoOpt.ifPresent(recentTaskView::update);
+                    return taskDtoOpt;
+                });
+    }
+
+    private static JobLaunchOutcome.Status awaitOutcome(final CompletableFuture<JobLaunchOutcome.Status> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-        } catch (final Exception e) {
-            LOGGER.error("Exception occured while launching task with timestamp {}", sanifiedTimestamp);
             throw e;
-        } finally {
-            LOGGER.info("Removing {} from tasks being launched.", sanifiedTimestamp);
-            timestampsBeingLaunched.remove(sanifiedTimestamp);
         }
     }
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks on a bounded pool of threads, tasks submitted with the same key being run sequentially in submission order.
+ * The number of pending tasks is bounded too: once reached, submission blocks until a task has been run.
+ * A task may also return a completion stage: its thread is released at once, while its key and its pending slot
+ * are held until the stage is completed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class KeyedSequentialExecutor<K> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyedSequentialExecutor.class);
+
+    private final ExecutorService executor;
+    private final Semaphore pendingPermits;
+    private final Map<K, Deque<Supplier<? extends CompletionStage<?>>>> pendingTasksByKey = new HashMap<>();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger inFlightTasks = new AtomicInteger();
+
+    KeyedSequentialExecutor(final int concurrency, final int maxPendingTasks, final String metricPrefix, final MeterRegistry meterRegistry) {
+        this.executor = Executors.newFixedThreadPool(concurrency);
+        this.pendingPermits = new Semaphore(maxPendingTasks);
+        Gauge.builder(metricPrefix + ".queue-depth", queuedTasks, AtomicInteger::get)
+                .description("Number of tasks waiting to be run")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".in-flight", inFlightTasks, AtomicInteger::get)
+                .description("Number of tasks being run")
+                .register(meterRegistry);
+    }
+
+    void submit(final K key, final Runnable task) {
+        submitAsync(key, () -> {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * @param task returns a stage completed once the task is done, the next task of the key being run after that
+     */
+    void submitAsync(final K key, final Supplier<? extends CompletionStage<?>> task) {
+        try {
+            pendingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreCCAdapterException("Interrupted while waiting to submit task", e);
+        }
+        queuedTasks.incrementAndGet();
+        synchronized (pendingTasksByKey) {
+            final Deque<Supplier<? extends CompletionStage<?>>> pendingTasks = pendingTasksByKey.get(key);
+            if (pendingTasks != null) {
+                // A task with the same key is running: this one will be run after it
+                pendingTasks.add(task);
+                return;
+            }
+            pendingTasksByKey.put(key, new ArrayDeque<>());
+        }
+        executor.execute(() -> run(key, task));
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    int getInFlightTasks() {
+        return inFlightTasks.get();
+    }
+
+    private void run(final K key, final Supplier<? extends CompletionStage<?>> task) {
+        queuedTasks.decrementAndGet();
+        inFlightTasks.incrementAndGet();
+        CompletionStage<?> running;
+        try {
+            running = task.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        running.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Error occurred while running task for key {}", key, throwable);
+            }
+            inFlightTasks.decrementAndGet();
+            pendingPermits.release();
+            runNextTask(key);
+        });
+    }
+
+    private void runNextTask(final K key) {
+        final Supplier<? extends CompletionStage<?>> nextTask;
+        synchronized (pendingTasksByKey) {
+            nextTask = pendingTasksByKey.get(key).poll();
+            if (nextTask == null) {
+                pendingTasksByKey.remove(key);
+            }
+        }
+        if (nextTask != null) {
+            // Resubmitted rather than run in this thread, so that other keys get a chance to be run
+            executor.execute(() -> run(key, nextTask));
+        }
+    }
+}
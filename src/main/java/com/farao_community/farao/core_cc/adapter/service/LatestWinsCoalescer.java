@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Keeps only the latest pending value of each key: a value is handed to the handler after a coalescing window,
+ * and values received for the same key in the meantime, or while a previous value of the key is being handled, replace it.
+ * The number of keys waiting for or being handled is bounded: once reached, submission of a value for a new key blocks
+ * the calling thread until a key has been handled. Since each of these keys has at most one task in the executor,
+ * the executor never blocks the coalescing scheduler as long as its own bound is not lower.
+ * The handler returns a stage completed once the value is handled: the key is held until then.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class LatestWinsCoalescer<K, V> {
+    private final Map<K, V> pendingValues = new ConcurrentHashMap<>();
+    private final Semaphore pendingPermits;
+    private final KeyedSequentialExecutor<K> executor;
+    private final Function<V, ? extends CompletionStage<?>> handler;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Counter supersededCounter;
+
+    LatestWinsCoalescer(final Duration window, final int maxPendingKeys, final KeyedSequentialExecutor<K> executor, final Function<V, ? extends CompletionStage<?>> handler,
+                        final String metricPrefix, final MeterRegistry meterRegistry) {
+        this.pendingPermits = new Semaphore(maxPendingKeys);
+        this.executor = executor;
+        this.handler = handler;
+        this.windowMillis = window.toMillis();
+        this.scheduler = windowMillis > 0 ? Executors.newSingleThreadScheduledExecutor() : null;
+        this.supersededCounter = Counter.builder(metricPrefix + ".superseded")
+                .description("Number of values dropped because a newer value of the same key was received before they were handled")
+                .register(meterRegistry);
+    }
+
+    void submit(final K key, final V value) {
+        while (true) {
+            if (pendingValues.replace(key, value) != null) {
+                // The handling of the key is already scheduled, it will take the latest value
+                supersededCounter.increment();
+                return;
+            }
+            acquirePermit();
+            if (pendingValues.putIfAbsent(key, value) == null) {
+                break;
+            }
+            // Another value of the key was submitted concurrently and its handling is scheduled: replace it instead
+            pendingPermits.release();
+        }
+        if (scheduler != null) {
+            scheduler.schedule(() -> submitToExecutor(key), windowMillis, TimeUnit.MILLISECONDS);
+        } else {
+            submitToExecutor(key);
+        }
+    }
+
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    int getPendingKeys() {
+        return pendingValues.size();
+    }
+
+    private void acquirePermit() {
+        try {
+            pendingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreCCAdapterException("Interrupted while waiting to submit value", e);
+        }
+    }
+
+    private void submitToExecutor(final K key) {
+        executor.submitAsync(key, () -> {
+            final CompletionStage<?> handling;
+            try {
+                final V latestValue = pendingValues.remove(key);
+                handling = latestValue != null ? handler.apply(latestValue) : CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                pendingPermits.release();
+                throw e;
+            }
+            return handling.whenComplete((result, throwable) -> pendingPermits.release());
+        });
+    }
+}
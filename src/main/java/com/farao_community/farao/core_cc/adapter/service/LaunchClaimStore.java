@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+
+/**
+ * Store of the timestamps being launched, preventing a timestamp from being launched twice at the same time.
+ * A claim expires after a configured duration, so that a timestamp claimed by a crashed instance can be launched again.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface LaunchClaimStore {
+
+    /**
+     * Atomically claims the timestamp on behalf of the claimant if it is not already claimed.
+     *
+     * @param claimant a unique identifier of the launch claiming the timestamp, across all the instances
+     * @return true if the timestamp has been claimed, false if it is already claimed
+     */
+    boolean tryClaim(String timestamp, String claimant);
+
+    /**
+     * Releases the claim of the timestamp if it is still held by the claimant:
+     * once expired, the claim may have been taken over by another launch, which must keep it.
+     */
+    void release(String timestamp, String claimant);
+
+    /**
+     * @return a key identifying the timestamp whatever its offset, or the timestamp itself if it cannot be parsed
+     */
+    static String getClaimKey(final String timestamp) {
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant().toString();
+        } catch (DateTimeException e) {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inputs of the launch of a task, resolved from its RAOREQUEST file.
+ *
+ * @param inputFiles the input files to send to the core-cc runner, RAOREQUEST file included
+ * @param duplicateDocuments the document IDs matching several available inputs, with these inputs
+ * @author agent {@literal <agent at local>}
+ */
+public record LaunchPlan(List<ProcessFileDto> inputFiles, Map<String, List<ProcessFileDto>> duplicateDocuments) {
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchPlanConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Launch plans prepared in the background, by timestamp, before tasks become READY.
+ * A prepared plan only depends on the RAOREQUEST and VIRTUALHUB files of its task and on the available inputs matching
+ * the document IDs it resolved: it is prepared again when one of them changes, and only used by a launch whose task
+ * has the same ones. Other files uploaded in the meantime do not invalidate it.
+ * While a plan is being prepared or if its preparation failed, it is bound to all the inputs of its task instead.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class LaunchPlanCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaunchPlanCache.class);
+    private static final String PLAN_REQUESTS_METRIC = "core-cc-adapter.launch-plan.requests";
+    private static final List<String> PLANNED_INPUT_TYPES = List.of("RAOREQUEST", "VIRTUALHUB");
+
+    private final int maxPlans;
+    private final Map<Instant, Entry> plans;
+    private final ThreadPoolExecutor planningExecutor;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public LaunchPlanCache(LaunchPlanConfiguration launchPlanConfiguration, MeterRegistry meterRegistry) {
+        this.maxPlans = launchPlanConfiguration.maxPlans();
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Instant, Entry> eldest) {
+                return size() > maxPlans;
+            }
+        };
+        final int concurrency = launchPlanConfiguration.concurrency();
+        this.planningExecutor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(Math.max(maxPlans, 1)));
+        this.hitCounter = Counter.builder(PLAN_REQUESTS_METRIC)
+                .description("Number of launches looking for a launch plan, by result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(PLAN_REQUESTS_METRIC)
+                .description("Number of launches looking for a launch plan, by result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("core-cc-adapter.launch-plan.invalidations")
+                .description("Number of launch plans prepared again because the inputs they depend on changed")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxPlans > 0;
+    }
+
+    /**
+     * Prepares in the background the launch plan of the task, unless a plan for the same inputs already exists.
+     */
+    public void prepare(final TaskDto taskDto, final Planner planner) {
+        if (!isEnabled()) {
+            return;
+        }
+        final Instant timestamp = taskDto.getTimestamp().toInstant();
+        final Entry entry = new Entry(taskDto, getFingerprint(taskDto), new CompletableFuture<>());
+        synchronized (plans) {
+            final Entry existingEntry = plans.get(timestamp);
+            if (existingEntry != null && existingEntry.isUpToDate(taskDto)) {
+                return;
+            }
+            if (existingEntry != null) {
+                invalidationCounter.increment();
+            }
+            plans.put(timestamp, entry);
+        }
+        try {
+            planningExecutor.execute(() -> plan(taskDto.getTimestamp(), entry, planner));
+        } catch (RejectedExecutionException e) {
+            synchronized (plans) {
+                plans.remove(timestamp, entry);
+            }
+            entry.plan().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return the launch plan prepared for the current inputs of the task, waiting for it if it is being prepared,
+     * or an empty optional if there is none, if its preparation failed or if the inputs it depends on changed
+     */
+    public Optional<LaunchPlan> get(final TaskDto taskDto) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        final Entry entry;
+        synchronized (plans) {
+            entry = plans.get(taskDto.getTimestamp().toInstant());
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        final LaunchPlan launchPlan;
+        try {
+            launchPlan = entry.plan().join();
+        } catch (CompletionException e) {
+            // The inputs are resolved again by the launch, which reports the errors
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (!getDependencies(launchPlan, entry.plannedTask()).equals(getDependencies(launchPlan, taskDto))) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(launchPlan);
+    }
+
+    public void invalidateAll() {
+        synchronized (plans) {
+            plans.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        planningExecutor.shutdownNow();
+    }
+
+    private static void plan(final OffsetDateTime timestamp, final Entry entry, final Planner planner) {
+        try {
+            entry.plan().complete(planner.plan());
+            LOGGER.info("Launch plan of task {} prepared", timestamp);
+        } catch (Exception e) {
+            // Expected as long as some inputs of the task are missing
+            LOGGER.debug("Launch plan of task {} could not be prepared: {}", timestamp, e.getMessage());
+            entry.plan().completeExceptionally(e);
+        }
+    }
+
+    private static List<FileKey> getFingerprint(final TaskDto taskDto) {
+        return Stream.of(taskDto.getInputs(), taskDto.getAvailableInputs())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(FileKey::new)
+                .toList();
+    }
+
+    /**
+     * @return the files of the task the launch plan was resolved from, in the way {@link CoreCCAdapterService} resolves them
+     */
+    private static List<FileKey> getDependencies(final LaunchPlan launchPlan, final TaskDto taskDto) {
+        final Set<String> documentIds = launchPlan.inputFiles().stream()
+                .map(ProcessFileDto::getDocumentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final List<ProcessFileDto> inputs = Objects.requireNonNullElse(taskDto.getInputs(), List.of());
+        final List<ProcessFileDto> availableInputs = Objects.requireNonNullElse(taskDto.getAvailableInputs(), List.of());
+        return Stream.concat(
+                        PLANNED_INPUT_TYPES.stream().map(fileType -> inputs.stream()
+                                .filter(input -> fileType.equals(input.getFileType()))
+                                .findFirst()
+                                .map(FileKey::new)
+                                .orElse(null)),
+                        availableInputs.stream()
+                                .filter(availableInput -> documentIds.contains(availableInput.getDocumentId()))
+                                .map(FileKey::new))
+                .toList();
+    }
+
+    @FunctionalInterface
+    public interface Planner {
+        LaunchPlan plan() throws RaoRequestImportException;
+    }
+
+    private record Entry(TaskDto plannedTask, List<FileKey> fingerprint, CompletableFuture<LaunchPlan> plan) {
+        private boolean isUpToDate(final TaskDto taskDto) {
+            if (plan.isDone() && !plan.isCompletedExceptionally()) {
+                final LaunchPlan launchPlan = plan.join();
+                return getDependencies(launchPlan, plannedTask).equals(getDependencies(launchPlan, taskDto));
+            }
+            return fingerprint.equals(getFingerprint(taskDto));
+        }
+    }
+
+    private record FileKey(String fileType, String filePath, String documentId, ProcessFileStatus processFileStatus, Instant version) {
+        private FileKey(final ProcessFileDto processFileDto) {
+            this(processFileDto.getFileType(), processFileDto.getFilePath(), processFileDto.getDocumentId(), processFileDto.getProcessFileStatus(),
+                    processFileDto.getLastModificationDate() == null ? null : processFileDto.getLastModificationDate().toInstant());
+        }
+    }
+}
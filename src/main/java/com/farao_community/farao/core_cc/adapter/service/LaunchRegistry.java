@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the launches in progress in this instance, keyed by timestamp, shared by manual and automatic launches.
+ * A launch is only started if its timestamp is not being launched by this instance, and only handled
+ * if its timestamp is not claimed by another instance.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class LaunchRegistry {
+
+    public enum Source {
+        AUTOMATIC,
+        MANUAL
+    }
+
+    public enum Stage {
+        STARTED,
+        FETCHING_TASK,
+        QUEUED,
+        RESOLVING_INPUTS,
+        ADDING_RUN,
+        UPDATING_STATUS,
+        SIGNING_URLS,
+        DISPATCHING
+    }
+
+    private final Map<Instant, Launch> launches = new ConcurrentHashMap<>();
+    private final LaunchClaimStore launchClaimStore;
+
+    public LaunchRegistry(LaunchClaimStore launchClaimStore, MeterRegistry meterRegistry) {
+        this.launchClaimStore = launchClaimStore;
+        Gauge.builder("core-cc-adapter.launches.in-flight", launches, Map::size)
+                .description("Number of launches in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the started launch, or an empty optional if the timestamp is already being launched by this instance
+     * @throws CoreCCAdapterException if the timestamp is invalid
+     */
+    public Optional<Launch> tryStart(final String timestamp, final Source source) {
+        final Instant key = parseTimestamp(timestamp);
+        final Launch launch = new Launch(key, source, Instant.now());
+        if (launches.putIfAbsent(key, launch) != null) {
+            return Optional.empty();
+        }
+        return Optional.of(launch);
+    }
+
+    /**
+     * Claims the timestamp of the launch against the other instances. The claim is taken once the launch has been
+     * admitted by the scheduler, right before it is handled, so that it cannot expire while the launch is queued.
+     *
+     * @return false if the timestamp is claimed by another instance
+     */
+    public boolean tryClaim(final Launch launch) {
+        launch.claimed = launchClaimStore.tryClaim(launch.getTimestamp().toString(), launch.id);
+        return launch.claimed;
+    }
+
+    public void finish(final Launch launch) {
+        if (launch.claimed) {
+            launchClaimStore.release(launch.getTimestamp().toString(), launch.id);
+        }
+        launches.remove(launch.getTimestamp(), launch);
+    }
+
+    /**
+     * Updates the stage of the launch of the given timestamp, if any.
+     */
+    public void updateStage(final OffsetDateTime timestamp, final Stage stage) {
+        final Launch launch = launches.get(timestamp.toInstant());
+        if (launch != null) {
+            launch.setStage(stage);
+        }
+    }
+
+    public List<LaunchState> getInFlightLaunches() {
+        return launches.values().stream()
+                .map(Launch::getState)
+                .sorted(Comparator.comparing(LaunchState::timestamp))
+                .toList();
+    }
+
+    private static Instant parseTimestamp(final String timestamp) {
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant();
+        } catch (DateTimeException e) {
+            throw new CoreCCAdapterException(String.format("Invalid timestamp %s", LoggingUtil.sanifyString(timestamp)), e);
+        }
+    }
+
+    public static final class Launch {
+        private final String id = UUID.randomUUID().toString();
+        private final Instant timestamp;
+        private final Source source;
+        private final Instant startTime;
+        private volatile Stage stage = Stage.STARTED;
+        private volatile boolean claimed;
+
+        private Launch(final Instant timestamp, final Source source, final Instant startTime) {
+            this.timestamp = timestamp;
+            this.source = source;
+            this.startTime = startTime;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        public Stage getStage() {
+            return stage;
+        }
+
+        public void setStage(final Stage stage) {
+            this.stage = stage;
+        }
+
+        private LaunchState getState() {
+            return new LaunchState(timestamp, source, startTime, stage);
+        }
+    }
+
+    public record LaunchState(Instant timestamp, Source source, Instant startTime, Stage stage) {
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Admission control in front of the handling of tasks: at most a given number of launches are handled at the same time,
+ * the others wait in a queue, bounded per launch source. Manual launches, initiated by operators, are always admitted
+ * before automatic ones; launches of a same source are admitted in arrival order.
+ * Queued launches are admitted by the workers of the scheduler, the threads submitting them are never held.
+ * A launch keeps its slot until the completion stage it returns is completed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class LaunchScheduler {
+    private static final String METRIC_PREFIX = "core-cc-adapter.launch-scheduler";
+    private static final String SOURCE_TAG = "source";
+
+    private final int maxConcurrency;
+    private final int maxQueuedLaunches;
+    private final PriorityBlockingQueue<PendingLaunch<?>> pendingLaunches = new PriorityBlockingQueue<>(11,
+            Comparator.<PendingLaunch<?>>comparingInt(PendingLaunch::priority).thenComparingLong(PendingLaunch::sequence));
+    private final Semaphore slots;
+    private final ExecutorService workers;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<LaunchRegistry.Source, Integer> queuedLaunches = new EnumMap<>(LaunchRegistry.Source.class);
+    private final Map<LaunchRegistry.Source, Timer> queueTimers = new EnumMap<>(LaunchRegistry.Source.class);
+    private final Map<LaunchRegistry.Source, Counter> rejectionCounters = new EnumMap<>(LaunchRegistry.Source.class);
+    private int runningLaunches;
+
+    public LaunchScheduler(LaunchSchedulerConfiguration launchSchedulerConfiguration, MeterRegistry meterRegistry) {
+        this.maxConcurrency = launchSchedulerConfiguration.maxConcurrency();
+        this.maxQueuedLaunches = launchSchedulerConfiguration.maxQueuedLaunches();
+        for (LaunchRegistry.Source source : LaunchRegistry.Source.values()) {
+            final String sourceTag = source.name().toLowerCase(Locale.ROOT);
+            queuedLaunches.put(source, 0);
+            queueTimers.put(source, Timer.builder(METRIC_PREFIX + ".queue-time")
+                    .description("Time spent by launches waiting to be handled, by source")
+                    .tag(SOURCE_TAG, sourceTag)
+                    .register(meterRegistry));
+            rejectionCounters.put(source, Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("Number of launches rejected because the queue of their source is full")
+                    .tag(SOURCE_TAG, sourceTag)
+                    .register(meterRegistry));
+            Gauge.builder(METRIC_PREFIX + ".queued", this, scheduler -> scheduler.getQueuedLaunches(source))
+                    .description("Number of launches waiting to be handled, by source")
+                    .tag(SOURCE_TAG, sourceTag)
+                    .register(meterRegistry);
+        }
+        Gauge.builder(METRIC_PREFIX + ".running", this, LaunchScheduler::getRunningLaunches)
+                .description("Number of launches being handled")
+                .register(meterRegistry);
+        this.slots = new Semaphore(maxConcurrency);
+        this.workers = Executors.newFixedThreadPool(maxConcurrency, Thread.ofPlatform().name("launch-scheduler-", 0).daemon().factory());
+        for (int i = 0; i < maxConcurrency; i++) {
+            workers.execute(this::admitLaunches);
+        }
+    }
+
+    /**
+     * Queues the launch, which is started on a worker of the scheduler once admitted, with the logging context of the caller.
+     *
+     * @return the outcome of the launch, completed once the completion stage returned by the launch is completed
+     * @throws LaunchRejectedException if the launch has to wait and the queue of its source is full, or if the scheduler is shut down
+     */
+    public <T> CompletableFuture<T> submit(final LaunchRegistry.Source source, final Supplier<? extends CompletionStage<T>> launch) {
+        final PendingLaunch<T> pendingLaunch = new PendingLaunch<>(getPriority(source), sequence.getAndIncrement(), source, launch,
+                new CompletableFuture<>(), System.nanoTime(), MDC.getCopyOfContextMap());
+        synchronized (this) {
+            if (workers.isShutdown()) {
+                throw new LaunchRejectedException("Launch rejected, the adapter is shutting down");
+            }
+            if (mustWait() && queuedLaunches.get(source) >= maxQueuedLaunches) {
+                rejectionCounters.get(source).increment();
+                throw new LaunchRejectedException(String.format("Launch queue of %s launches is full", source.name().toLowerCase(Locale.ROOT)));
+            }
+            queuedLaunches.merge(source, 1, Integer::sum);
+            pendingLaunches.add(pendingLaunch);
+        }
+        return pendingLaunch.outcome();
+    }
+
+    synchronized int getQueuedLaunches(final LaunchRegistry.Source source) {
+        return queuedLaunches.get(source);
+    }
+
+    synchronized int getRunningLaunches() {
+        return runningLaunches;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        final List<PendingLaunch<?>> rejectedLaunches = new ArrayList<>();
+        synchronized (this) {
+            workers.shutdownNow();
+            pendingLaunches.drainTo(rejectedLaunches);
+        }
+        rejectedLaunches.forEach(rejectedLaunch -> rejectedLaunch.outcome().completeExceptionally(
+                new LaunchRejectedException("Launch rejected, the adapter is shutting down")));
+    }
+
+    private void admitLaunches() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // The next launch is only taken once a slot is free, so that a launch queued meanwhile with a higher priority goes first
+                slots.acquire();
+                final PendingLaunch<?> pendingLaunch;
+                try {
+                    pendingLaunch = pendingLaunches.take();
+                } catch (InterruptedException e) {
+                    slots.release();
+                    throw e;
+                }
+                start(pendingLaunch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> void start(final PendingLaunch<T> pendingLaunch) {
+        synchronized (this) {
+            queuedLaunches.merge(pendingLaunch.source(), -1, Integer::sum);
+            runningLaunches++;
+        }
+        queueTimers.get(pendingLaunch.source()).record(System.nanoTime() - pendingLaunch.queueStart(), TimeUnit.NANOSECONDS);
+        CompletionStage<T> launching;
+        if (pendingLaunch.loggingContext() != null) {
+            MDC.setContextMap(pendingLaunch.loggingContext());
+        }
+        try {
+            launching = pendingLaunch.launch().get();
+        } catch (Throwable e) {
+            launching = CompletableFuture.failedFuture(e);
+        } finally {
+            // Workers are shared between launches: the context of this launch must not leak into the logs of the next one
+            MDC.clear();
+        }
+        launching.whenComplete((result, throwable) -> {
+            synchronized (this) {
+                runningLaunches--;
+            }
+            slots.release();
+            if (throwable != null) {
+                pendingLaunch.outcome().completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                pendingLaunch.outcome().complete(result);
+            }
+        });
+    }
+
+    private boolean mustWait() {
+        return runningLaunches >= maxConcurrency || !pendingLaunches.isEmpty();
+    }
+
+    private static int getPriority(final LaunchRegistry.Source source) {
+        return source == LaunchRegistry.Source.MANUAL ? 0 : 1;
+    }
+
+    private record PendingLaunch<T>(int priority, long sequence, LaunchRegistry.Source source, Supplier<? extends CompletionStage<T>> launch,
+                                    CompletableFuture<T> outcome, long queueStart, Map<String, String> loggingContext) {
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.PartitionConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Shares the timestamps between the instances of the adapter when partitioning is enabled.
+ * Each instance regularly touches a member file in a shared directory, and the live members are those whose file
+ * has been touched recently. A timestamp is owned by the live member with the highest hash of the member id
+ * and the timestamp (rendezvous hashing): when an instance joins or leaves, only its own timestamps move.
+ * A member which stops without leaving is still considered live until its member timeout, so the updates received
+ * in the meantime for its timestamps must be kept by the other instances until they detect the change of members.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class PartitionOwnership {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionOwnership.class);
+    private static final String MEMBER_FILE_EXTENSION = ".member";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long memberTimeoutMillis;
+    private final Duration takeoverWindow;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final ExecutorService membersChangeNotifier;
+    private final List<Runnable> membersChangeListeners = new CopyOnWriteArrayList<>();
+    private volatile List<String> liveMembers = List.of(instanceId);
+
+    public PartitionOwnership(PartitionConfiguration partitionConfiguration, MeterRegistry meterRegistry) {
+        this.enabled = partitionConfiguration.enabled();
+        this.directory = partitionConfiguration.directory();
+        this.memberTimeoutMillis = partitionConfiguration.memberTimeout().toMillis();
+        this.takeoverWindow = partitionConfiguration.memberTimeout().plus(partitionConfiguration.heartbeatInterval());
+        if (enabled) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new CoreCCAdapterException(String.format("Cannot create partition members directory %s", directory), e);
+            }
+            // Listeners are notified on their own thread so that a slow listener never delays the heartbeats
+            this.membersChangeNotifier = Executors.newSingleThreadExecutor();
+            heartbeat();
+            this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+            final long intervalMillis = partitionConfiguration.heartbeatInterval().toMillis();
+            heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.membersChangeNotifier = null;
+            this.heartbeatScheduler = null;
+        }
+        Gauge.builder("core-cc-adapter.partition.members", this, ownership -> ownership.getLiveMembers().size())
+                .description("Number of live adapter instances sharing the timestamps")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if this instance is in charge of the timestamp, always true when partitioning is disabled
+     */
+    public boolean owns(final Instant timestamp) {
+        if (!enabled) {
+            return true;
+        }
+        final String key = timestamp.toString();
+        String owner = null;
+        long ownerHash = Long.MIN_VALUE;
+        for (String member : liveMembers) {
+            final long hash = hash(member, key);
+            if (owner == null || hash > ownerHash || hash == ownerHash && member.compareTo(owner) > 0) {
+                owner = member;
+                ownerHash = hash;
+            }
+        }
+        return instanceId.equals(owner);
+    }
+
+    /**
+     * Registers a listener called each time the live members change, hence the owners of some timestamps.
+     */
+    public void onMembersChange(final Runnable listener) {
+        membersChangeListeners.add(listener);
+    }
+
+    /**
+     * @return the maximum time between the reception of an update for a timestamp owned by a member which has stopped,
+     * and the detection by this instance of the change of members
+     */
+    public Duration getTakeoverWindow() {
+        return takeoverWindow;
+    }
+
+    List<String> getLiveMembers() {
+        return liveMembers;
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+            membersChangeNotifier.shutdownNow();
+            try {
+                // Leaving the partition immediately lets the other instances take over this instance's timestamps
+                Files.deleteIfExists(getMemberFile(instanceId));
+            } catch (IOException e) {
+                LOGGER.warn("Cannot delete partition member file of instance {}", instanceId, e);
+            }
+        }
+    }
+
+    void heartbeat() {
+        try {
+            final Path memberFile = getMemberFile(instanceId);
+            if (Files.exists(memberFile)) {
+                Files.setLastModifiedTime(memberFile, FileTime.from(Instant.now()));
+            } else {
+                Files.writeString(memberFile, instanceId, StandardCharsets.UTF_8);
+            }
+            final List<String> members = readLiveMembers();
+            if (!members.equals(liveMembers)) {
+                LOGGER.info("Partition members changed: {} live instances", members.size());
+                liveMembers = members;
+                membersChangeListeners.forEach(membersChangeNotifier::execute);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep the last known members: the next heartbeat may succeed
+            LOGGER.warn("Error occurred during partition heartbeat", e);
+        }
+    }
+
+    private List<String> readLiveMembers() throws IOException {
+        final long minLastModified = System.currentTimeMillis() - memberTimeoutMillis;
+        final List<String> members = new ArrayList<>();
+        members.add(instanceId);
+        try (Stream<Path> memberFiles = Files.list(directory)) {
+            for (Path memberFile : memberFiles.filter(path -> path.getFileName().toString().endsWith(MEMBER_FILE_EXTENSION)).toList()) {
+                final String fileName = memberFile.getFileName().toString();
+                final String member = fileName.substring(0, fileName.length() - MEMBER_FILE_EXTENSION.length());
+                if (!member.equals(instanceId) && isLive(memberFile, minLastModified)) {
+                    members.add(member);
+                }
+            }
+        }
+        members.sort(null);
+        return List.copyOf(members);
+    }
+
+    private static boolean isLive(final Path memberFile, final long minLastModified) throws IOException {
+        try {
+            return Files.getLastModifiedTime(memberFile).toMillis() >= minLastModified;
+        } catch (NoSuchFileException e) {
+            // The instance has left in the meantime
+            return false;
+        }
+    }
+
+    private Path getMemberFile(final String member) {
+        return directory.resolve(member + MEMBER_FILE_EXTENSION);
+    }
+
+    private static long hash(final String member, final String key) {
+        return UUID.nameUUIDFromBytes((member + "/" + key).getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.PresignedUrlConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates the presigned URLs of the input files sent to the core-cc runner, with a validity depending on the file type.
+ * Generated URLs are cached by object path along with their expiry, and reused only while they remain valid
+ * for at least the configured duration, so that the runner never receives a URL close to expiry.
+ * URLs can be generated ahead of time on a dedicated pool of threads, so that the files of a task are signed in parallel.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class PresignedUrlService {
+    private static final String CACHE_REQUESTS_METRIC = "core-cc-adapter.presigned-url.cache.requests";
+
+    private final MinioAdapter minioAdapter;
+    private final PresignedUrlConfiguration presignedUrlConfiguration;
+    private final ExecutorService signingExecutor;
+    private final Map<String, SignedUrl> signedUrls;
+    private final Timer signingTimer;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PresignedUrlService(MinioAdapter minioAdapter, PresignedUrlConfiguration presignedUrlConfiguration, MeterRegistry meterRegistry) {
+        this.minioAdapter = minioAdapter;
+        this.presignedUrlConfiguration = presignedUrlConfiguration;
+        this.signingExecutor = Executors.newFixedThreadPool(presignedUrlConfiguration.signingConcurrency());
+        final int cacheSize = presignedUrlConfiguration.cacheSize();
+        this.signedUrls = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, SignedUrl> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.signingTimer = Timer.builder("core-cc-adapter.presigned-url.signing")
+                .description("Time spent generating the presigned URL of an input file")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .description("Number of presigned URL cache requests, by result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .description("Number of presigned URL cache requests, by result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the file resource with a cached URL if it remains valid long enough, or with a newly generated one
+     */
+    public CoreCCFileResource getFileResource(final ProcessFileDto processFileDto) {
+        return sign(processFileDto).fileResource();
+    }
+
+    /**
+     * @return the file resource signed ahead of time if it remains valid long enough, or the file resource with a cached or newly generated URL
+     */
+    public CoreCCFileResource getFileResource(final ProcessFileDto processFileDto, final SignedFileResource signedFileResource) {
+        if (!signedFileResource.expiry().isBefore(Instant.now().plus(presignedUrlConfiguration.minRemainingValidity()))) {
+            return signedFileResource.fileResource();
+        }
+        return getFileResource(processFileDto);
+    }
+
+    /**
+     * Generates the URL of the file, if needed, on the signing pool of threads.
+     * The URL is not generated if the returned future is cancelled before a thread of the pool is available,
+     * and its generation is interrupted if the future is cancelled while it is running.
+     */
+    public CompletableFuture<SignedFileResource> signAsync(final ProcessFileDto processFileDto) {
+        final CompletableFuture<SignedFileResource> signing = new CompletableFuture<>();
+        final Future<?> signingTask = signingExecutor.submit(() -> {
+            if (signing.isDone()) {
+                return;
+            }
+            try {
+                signing.complete(sign(processFileDto));
+            } catch (RuntimeException e) {
+                signing.completeExceptionally(e);
+            }
+        });
+        signing.whenComplete((signedFileResource, throwable) -> {
+            if (signing.isCancelled()) {
+                signingTask.cancel(true);
+            }
+        });
+        return signing;
+    }
+
+    public void invalidateAll() {
+        synchronized (signedUrls) {
+            signedUrls.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signingExecutor.shutdownNow();
+    }
+
+    private SignedFileResource sign(final ProcessFileDto processFileDto) {
+        final String filePath = processFileDto.getFilePath();
+        final int validityDays = presignedUrlConfiguration.getValidityDays(processFileDto.getFileType());
+        final Instant minExpiry = Instant.now().plus(presignedUrlConfiguration.minRemainingValidity());
+        final SignedUrl cachedUrl;
+        synchronized (signedUrls) {
+            cachedUrl = signedUrls.get(filePath);
+        }
+        if (cachedUrl != null && cachedUrl.validityDays() == validityDays && !cachedUrl.expiry().isBefore(minExpiry)) {
+            hitCounter.increment();
+            return new SignedFileResource(new CoreCCFileResource(processFileDto.getFilename(), cachedUrl.url()), cachedUrl.expiry());
+        }
+
+        missCounter.increment();
+        final Instant expiry = Instant.now().plus(Duration.ofDays(validityDays));
+        final String url = signingTimer.record(() -> minioAdapter.generatePreSignedUrlFromFullMinioPath(filePath, validityDays));
+        synchronized (signedUrls) {
+            signedUrls.put(filePath, new SignedUrl(url, validityDays, expiry));
+        }
+        return new SignedFileResource(new CoreCCFileResource(processFileDto.getFilename(), url), expiry);
+    }
+
+    /**
+     * A file resource along with the expiry of its URL.
+     */
+    public record SignedFileResource(CoreCCFileResource fileResource, Instant expiry) {
+    }
+
+    private record SignedUrl(String url, int validityDays, Instant expiry) {
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.RaoRequestConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded LRU cache of parsed RAOREQUEST files, shared by all the tasks of a business day.
+ * Entries are keyed on the MinIO file path and its last modification date, so a new version of a file is parsed again.
+ * Concurrent requests for the same file wait for a single parsing, for at most the configured parse timeout.
+ * <p>
+ * A cache miss indexes the whole file instead of stopping at the requested item like
+ * {@link RaoRequestReader#readDocumentIds}: the first launch of a file pays for the full parsing, the next launches of the
+ * business day neither download nor parse it again (see RaoRequestReaderBenchmark in src/jmh/java).
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class RaoRequestCache {
+    private static final String CACHE_REQUESTS_METRIC = "core-cc-adapter.raorequest.cache.requests";
+
+    private final int maxSize;
+    private final Duration parseTimeout;
+    private final Map<Key, CompletableFuture<RaoRequestIndex>> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public RaoRequestCache(RaoRequestConfiguration raoRequestConfiguration, MeterRegistry meterRegistry) {
+        this.maxSize = raoRequestConfiguration.cacheSize();
+        this.parseTimeout = raoRequestConfiguration.parseTimeout();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CompletableFuture<RaoRequestIndex>> eldest) {
+                final boolean evict = size() > maxSize;
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+        this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .description("Number of RAOREQUEST cache requests, by result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+                .description("Number of RAOREQUEST cache requests, by result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("core-cc-adapter.raorequest.cache.evictions")
+                .description("Number of parsed RAOREQUEST files evicted from the cache")
+                .register(meterRegistry);
+        Gauge.builder("core-cc-adapter.raorequest.cache.size", this, RaoRequestCache::size)
+                .description("Number of parsed RAOREQUEST files in the cache")
+                .register(meterRegistry);
+        Gauge.builder("core-cc-adapter.raorequest.cache.hit-ratio", this, RaoRequestCache::hitRatio)
+                .description("Ratio of RAOREQUEST cache requests answered from memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public RaoRequestIndex get(final ProcessFileDto raoRequestProcessFile, final Loader loader) throws RaoRequestImportException {
+        if (!isEnabled() || raoRequestProcessFile.getLastModificationDate() == null) {
+            // Without a version, a cached entry could hide a newer file stored under the same path
+            return loader.load();
+        }
+
+        final Key key = new Key(raoRequestProcessFile.getFilePath(), raoRequestProcessFile.getLastModificationDate().toInstant());
+        final CompletableFuture<RaoRequestIndex> newEntry = new CompletableFuture<>();
+        final CompletableFuture<RaoRequestIndex> existingEntry;
+        synchronized (entries) {
+            existingEntry = entries.putIfAbsent(key, newEntry);
+        }
+
+        if (existingEntry != null) {
+            hitCounter.increment();
+            return awaitIndex(key, existingEntry);
+        }
+
+        missCounter.increment();
+        try {
+            final RaoRequestIndex index = loader.load();
+            newEntry.complete(index);
+            return index;
+        } catch (Throwable e) {
+            // Errors too must complete the entry, otherwise the launches waiting for it would never be released
+            evict(key, newEntry);
+            newEntry.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        final double requests = hitCounter.count() + missCounter.count();
+        return requests == 0 ? 0 : hitCounter.count() / requests;
+    }
+
+    private void evict(final Key key, final CompletableFuture<RaoRequestIndex> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private RaoRequestIndex awaitIndex(final Key key, final CompletableFuture<RaoRequestIndex> entry) throws RaoRequestImportException {
+        try {
+            return entry.get(parseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // The next launch parses the file again instead of waiting for a parsing that may never end
+            evict(key, entry);
+            throw new CoreCCAdapterException("Timed out while waiting for RAOREQUEST file parsing", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreCCAdapterException("Interrupted while waiting for RAOREQUEST file parsing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RaoRequestImportException raoRequestImportException) {
+                throw raoRequestImportException;
+            }
+            throw new CoreCCAdapterException("Error occurred during parsing of RAOREQUEST file", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        RaoRequestIndex load() throws RaoRequestImportException;
+    }
+
+    private record Key(String filePath, Instant version) {
+    }
+}
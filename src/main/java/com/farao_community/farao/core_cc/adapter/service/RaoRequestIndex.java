@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.extra.Interval;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Index of a RAOREQUEST file: the document IDs of each RequestItem, sorted on the start of its time interval.
+ * Time intervals are parsed and checked once, when the index is built, so that timestamp lookups
+ * are a simple search on epoch seconds.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class RaoRequestIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaoRequestIndex.class);
+
+    private final NavigableMap<Long, Item> itemsByStart;
+
+    private RaoRequestIndex(final NavigableMap<Long, Item> itemsByStart) {
+        this.itemsByStart = itemsByStart;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<List<String>> getDocumentIds(final Instant timestamp) {
+        final long epochSecond = timestamp.getEpochSecond();
+        final Map.Entry<Long, Item> entry = itemsByStart.floorEntry(epochSecond);
+        if (entry == null || epochSecond >= entry.getValue().endEpochSecond()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue().documentIds());
+    }
+
+    public int size() {
+        return itemsByStart.size();
+    }
+
+    private record Item(long startEpochSecond, long endEpochSecond, List<String> documentIds) {
+    }
+
+    public static final class Builder {
+        private final List<Item> items = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @throws java.time.DateTimeException if the time interval cannot be parsed
+         */
+        public Builder add(final String timeInterval, final List<String> documentIds) {
+            final Interval interval = Interval.parse(timeInterval);
+            items.add(new Item(interval.getStart().getEpochSecond(), interval.getEnd().getEpochSecond(), List.copyOf(documentIds)));
+            return this;
+        }
+
+        public RaoRequestIndex build() throws RaoRequestImportException {
+            items.sort(Comparator.comparingLong(Item::startEpochSecond));
+            final NavigableMap<Long, Item> itemsByStart = new TreeMap<>();
+            Item previous = null;
+            for (final Item item : items) {
+                if (previous != null) {
+                    checkContinuity(previous, item);
+                }
+                itemsByStart.put(item.startEpochSecond(), item);
+                previous = item;
+            }
+            return new RaoRequestIndex(itemsByStart);
+        }
+
+        private static void checkContinuity(final Item previous, final Item item) throws RaoRequestImportException {
+            if (item.startEpochSecond() < previous.endEpochSecond()) {
+                throw new RaoRequestImportException(String.format("Overlapping time intervals in RAOREQUEST file: %s/%s and %s/%s",
+                        Instant.ofEpochSecond(previous.startEpochSecond()), Instant.ofEpochSecond(previous.endEpochSecond()),
+                        Instant.ofEpochSecond(item.startEpochSecond()), Instant.ofEpochSecond(item.endEpochSecond())), null);
+            }
+            if (item.startEpochSecond() > previous.endEpochSecond()) {
+                LOGGER.warn("No RequestItem in RAOREQUEST file between {} and {}",
+                        Instant.ofEpochSecond(previous.endEpochSecond()), Instant.ofEpochSecond(item.startEpochSecond()));
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes of the RAOREQUEST files used by the launches of a batch. Each file is indexed once for the whole batch,
+ * whatever the {@link RaoRequestCache} settings, and its index is dropped with the batch.
+ * A failed indexing is reported to every launch of the file instead of being retried.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RaoRequestIndexes {
+    private final Map<Key, CompletableFuture<RaoRequestIndex>> indexes = new ConcurrentHashMap<>();
+
+    RaoRequestIndex get(final ProcessFileDto raoRequestProcessFile, final RaoRequestCache.Loader loader) throws RaoRequestImportException {
+        final Key key = new Key(raoRequestProcessFile.getFilePath(), raoRequestProcessFile.getLastModificationDate());
+        final CompletableFuture<RaoRequestIndex> newIndex = new CompletableFuture<>();
+        final CompletableFuture<RaoRequestIndex> existingIndex = indexes.putIfAbsent(key, newIndex);
+        if (existingIndex != null) {
+            return awaitIndex(existingIndex);
+        }
+
+        try {
+            final RaoRequestIndex index = loader.load();
+            newIndex.complete(index);
+            return index;
+        } catch (Throwable e) {
+            newIndex.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        return indexes.size();
+    }
+
+    private static RaoRequestIndex awaitIndex(final CompletableFuture<RaoRequestIndex> index) throws RaoRequestImportException {
+        try {
+            // The launch indexing the file completes its future on every path
+            return index.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RaoRequestImportException raoRequestImportException) {
+                throw raoRequestImportException;
+            }
+            throw new CoreCCAdapterException("Error occurred during parsing of RAOREQUEST file", e.getCause());
+        }
+    }
+
+    private record Key(String filePath, OffsetDateTime version) {
+    }
+}
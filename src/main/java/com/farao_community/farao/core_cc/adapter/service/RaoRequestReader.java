@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import org.springframework.stereotype.Component;
+import org.threeten.extra.Interval;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Streaming reader of RAOREQUEST files, following the structure of request-payload-02.xsd.
+ * Only the attributes needed to find the document IDs are read, no object tree is built.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class RaoRequestReader {
+    private static final String REQUEST_PAYLOAD_NAMESPACE = "http://unicorn.com/Request/request-payload";
+    private static final String REQUEST_ITEM_ELEMENT = "RequestItem";
+    private static final String FILE_ELEMENT = "File";
+    private static final String TIME_INTERVAL_ATTRIBUTE = "timeInterval";
+    private static final String CODE_ATTRIBUTE = "code";
+    private static final String URL_ATTRIBUTE = "url";
+    private static final String DOCUMENT_ID_URL_PREFIX = "documentIdentification://";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public RaoRequestReader() {
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Reads the RAOREQUEST until the RequestItem whose time interval contains the given timestamp,
+     * and returns the document IDs of its files. The rest of the file is not read.
+     */
+    public Optional<List<String>> readDocumentIds(final InputStream inputStream, final Instant timestamp) throws XMLStreamException {
+        final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && isPayloadElement(reader, REQUEST_ITEM_ELEMENT)) {
+                    final String timeInterval = reader.getAttributeValue(null, TIME_INTERVAL_ATTRIBUTE);
+                    if (Interval.parse(timeInterval).contains(timestamp)) {
+                        return Optional.of(readFilesDocumentIds(reader));
+                    }
+                    skipElement(reader);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the whole RAOREQUEST and indexes the document IDs of the files of each RequestItem on its time interval.
+     */
+    public RaoRequestIndex readIndex(final InputStream inputStream) throws XMLStreamException, RaoRequestImportException {
+        final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            final RaoRequestIndex.Builder indexBuilder = RaoRequestIndex.builder();
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && isPayloadElement(reader, REQUEST_ITEM_ELEMENT)) {
+                    final String timeInterval = reader.getAttributeValue(null, TIME_INTERVAL_ATTRIBUTE);
+                    indexBuilder.add(timeInterval, readFilesDocumentIds(reader));
+                }
+            }
+            return indexBuilder.build();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static List<String> readFilesDocumentIds(final XMLStreamReader reader) throws XMLStreamException {
+        final List<String> documentIds = new ArrayList<>();
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (isPayloadElement(reader, FILE_ELEMENT)) {
+                    addDocumentId(reader, documentIds);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return List.copyOf(documentIds);
+    }
+
+    private static void addDocumentId(final XMLStreamReader reader, final List<String> documentIds) {
+        // CFG_RAO entries are the VIRTUALHUB files, see the TODO on CoreCCAdapterService.findVirtualhubProcessFile
+        if (!"CFG_RAO".equals(reader.getAttributeValue(null, CODE_ATTRIBUTE))) {
+            documentIds.add(reader.getAttributeValue(null, URL_ATTRIBUTE).replace(DOCUMENT_ID_URL_PREFIX, ""));
+        }
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isPayloadElement(final XMLStreamReader reader, final String localName) {
+        return localName.equals(reader.getLocalName()) && REQUEST_PAYLOAD_NAMESPACE.equals(reader.getNamespaceURI());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.TaskViewConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-bounded view of the tasks recently received from the task-manager, keyed by timestamp.
+ * An entry is only returned while it is younger than the configured maximum age,
+ * so that callers fall back to the task-manager when the view may be outdated.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class RecentTaskView {
+    private static final String TASK_VIEW_REQUESTS_METRIC = "core-cc-adapter.task-view.requests";
+
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final Map<Instant, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+
+    public RecentTaskView(TaskViewConfiguration taskViewConfiguration, MeterRegistry meterRegistry) {
+        this.maxSize = taskViewConfiguration.maxSize();
+        this.maxAgeNanos = taskViewConfiguration.maxAge().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Instant, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hitCounter = getRequestCounter("hit", meterRegistry);
+        this.missCounter = getRequestCounter("miss", meterRegistry);
+        this.staleCounter = getRequestCounter("stale", meterRegistry);
+        Gauge.builder("core-cc-adapter.task-view.size", this, RecentTaskView::size)
+                .description("Number of tasks in the recent task view")
+                .register(meterRegistry);
+    }
+
+    public void update(final TaskDto taskDto) {
+        if (maxSize <= 0 || taskDto == null || taskDto.getTimestamp() == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(taskDto.getTimestamp().toInstant(), new Entry(taskDto, System.nanoTime()));
+        }
+    }
+
+    /**
+     * @return the task with the given timestamp if it has been received recently enough
+     */
+    public Optional<TaskDto> get(final String timestamp) {
+        final Entry entry;
+        try {
+            final Instant key = OffsetDateTime.parse(timestamp).toInstant();
+            synchronized (entries) {
+                entry = entries.get(key);
+            }
+        } catch (DateTimeException e) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entry.receivedNanos() >= maxAgeNanos) {
+            staleCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(entry.taskDto());
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Counter getRequestCounter(final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(TASK_VIEW_REQUESTS_METRIC)
+                .description("Number of recent task view requests, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(TaskDto taskDto, long receivedNanos) {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import java.time.Duration;
+
+/**
+ * Caps the number of retries to a ratio of the calls made during a time window,
+ * with a minimum number of retries always allowed so that low traffic can still be retried.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class RetryBudget {
+    private final double ratio;
+    private final int minRetries;
+    private final long windowNanos;
+    private long windowStartNanos;
+    private int calls;
+    private int retries;
+
+    RetryBudget(final double ratio, final int minRetries, final Duration window) {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+        this.windowNanos = window.toNanos();
+        this.windowStartNanos = System.nanoTime();
+    }
+
+    synchronized void recordCall() {
+        rollWindow();
+        calls++;
+    }
+
+    synchronized boolean tryAcquireRetry() {
+        rollWindow();
+        if (retries >= Math.max(minRetries, (int) (ratio * calls))) {
+            return false;
+        }
+        retries++;
+        return true;
+    }
+
+    synchronized int getCalls() {
+        rollWindow();
+        return calls;
+    }
+
+    synchronized int getRetries() {
+        rollWindow();
+        return retries;
+    }
+
+    synchronized void reset() {
+        windowStartNanos = System.nanoTime();
+        calls = 0;
+        retries = 0;
+    }
+
+    private void rollWindow() {
+        if (System.nanoTime() - windowStartNanos >= windowNanos) {
+            reset();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.RunHistoryConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Size-bounded index of the run history of tasks, keyed by task id.
+ * The files used by the runs of a task are stored as compact keys made of their path and version, and the index
+ * of a task is updated incrementally: only the runs that were not indexed yet are read.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class RunHistoryIndex {
+    private final int maxSize;
+    private final Map<UUID, Entry> entries;
+
+    public RunHistoryIndex(RunHistoryConfiguration runHistoryConfiguration, MeterRegistry meterRegistry) {
+        this.maxSize = runHistoryConfiguration.indexSize();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        Gauge.builder("core-cc-adapter.run-history.index.size", this, RunHistoryIndex::size)
+                .description("Number of tasks in the run history index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if all the given files were used by some run of the task
+     */
+    public boolean allFilesUsed(final TaskDto taskDto, final Collection<ProcessFileDto> files) {
+        final Entry entry = getUpdatedEntry(taskDto);
+        synchronized (entry) {
+            return files.stream().allMatch(file -> entry.usedFiles.contains(FileKey.of(file)));
+        }
+    }
+
+    /**
+     * @return the id of the most recent run of the task, if any
+     */
+    public Optional<UUID> getLatestRunId(final TaskDto taskDto) {
+        final Entry entry = getUpdatedEntry(taskDto);
+        synchronized (entry) {
+            return Optional.ofNullable(entry.latestRun).map(ProcessRunDto::getId);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry getUpdatedEntry(final TaskDto taskDto) {
+        final Entry entry;
+        if (maxSize <= 0 || taskDto.getId() == null) {
+            entry = new Entry();
+        } else {
+            synchronized (entries) {
+                entry = entries.computeIfAbsent(taskDto.getId(), id -> new Entry());
+            }
+        }
+        synchronized (entry) {
+            entry.update(taskDto.getRunHistory() != null ? taskDto.getRunHistory() : List.of());
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        private final Set<FileKey> usedFiles = new HashSet<>();
+        private int indexedRunCount;
+        private UUID firstIndexedRunId;
+        private UUID lastIndexedRunId;
+        private ProcessRunDto latestRun;
+
+        private void update(final List<ProcessRunDto> runHistory) {
+            // The task manager only adds runs to the history: the indexed runs are found at either end of it
+            final int newRunCount = runHistory.size() - indexedRunCount;
+            if (newRunCount == 0 && isIndexedRange(runHistory, 0)) {
+                return;
+            } else if (newRunCount > 0 && isIndexedRange(runHistory, 0)) {
+                index(runHistory.subList(indexedRunCount, runHistory.size()));
+            } else if (newRunCount > 0 && isIndexedRange(runHistory, newRunCount)) {
+                index(runHistory.subList(0, newRunCount));
+            } else {
+                // Some indexed runs are no longer in the history: the index has to be rebuilt
+                usedFiles.clear();
+                latestRun = null;
+                index(runHistory);
+            }
+            firstIndexedRunId = runHistory.isEmpty() ? null : runHistory.getFirst().getId();
+            lastIndexedRunId = runHistory.isEmpty() ? null : runHistory.getLast().getId();
+            indexedRunCount = runHistory.size();
+        }
+
+        private boolean isIndexedRange(final List<ProcessRunDto> runHistory, final int fromIndex) {
+            return indexedRunCount == 0
+                    || Objects.equals(runHistory.get(fromIndex).getId(), firstIndexedRunId)
+                    && Objects.equals(runHistory.get(fromIndex + indexedRunCount - 1).getId(), lastIndexedRunId);
+        }
+
+        private void index(final List<ProcessRunDto> runs) {
+            for (ProcessRunDto run : runs) {
+                run.getInputs().forEach(file -> usedFiles.add(FileKey.of(file)));
+                if (latestRun == null || isMoreRecent(run, latestRun)) {
+                    latestRun = run;
+                }
+            }
+        }
+
+        private static boolean isMoreRecent(final ProcessRunDto run, final ProcessRunDto otherRun) {
+            return otherRun.getExecutionDate() == null
+                    || run.getExecutionDate() != null && run.getExecutionDate().isAfter(otherRun.getExecutionDate());
+        }
+    }
+
+    private record FileKey(String filePath, Instant version) {
+        private static FileKey of(final ProcessFileDto file) {
+            return new FileKey(file.getFilePath(), file.getLastModificationDate() != null ? file.getLastModificationDate().toInstant() : null);
+        }
+    }
+}
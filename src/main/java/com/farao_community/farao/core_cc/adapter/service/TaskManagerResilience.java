@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientBeans;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerResilienceConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.TaskManagerUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protects the task-manager from retry storms: a circuit breaker per endpoint makes calls fail fast
+ * while the task-manager is unavailable, and a retry budget shared by all endpoints caps the number of retries.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Component
+public class TaskManagerResilience {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskManagerResilience.class);
+    private static final List<String> ENDPOINTS = List.of(TaskManagerClientBeans.GET_TASK_ENDPOINT, TaskManagerClientBeans.ADD_RUN_ENDPOINT, TaskManagerClientBeans.UPDATE_STATUS_ENDPOINT);
+    private static final String REJECTED_CALLS_METRIC = "core-cc-adapter.task-manager.rejected-calls";
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new LinkedHashMap<>();
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+
+    public TaskManagerResilience(TaskManagerResilienceConfiguration configuration, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = new RetryBudget(configuration.retryBudgetRatio(), configuration.retryBudgetMinRetries(), configuration.retryBudgetWindow());
+        ENDPOINTS.forEach(endpoint -> {
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(configuration.failureThreshold(), configuration.openDuration());
+            circuitBreakers.put(endpoint, circuitBreaker);
+            Gauge.builder("core-cc-adapter.task-manager.circuit-breaker.state", circuitBreaker, cb -> cb.getState().ordinal())
+                    .description("State of the task-manager circuit breaker: 0 closed, 1 open, 2 half-open")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Must be called before each attempt of a call to the task-manager, which must then report its outcome
+     * with {@link #onSuccess(String)} or {@link #onFailure(String)}.
+     *
+     * @param retryCount number of previous attempts of the same call
+     * @throws TaskManagerUnavailableException if the circuit of the endpoint is open or the retry budget is exhausted
+     */
+    public void acquirePermission(final String endpoint, final int retryCount) {
+        // The circuit is checked first: a call rejected by an open circuit does not consume the retry budget
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(endpoint);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            reject(endpoint, "circuit-open", String.format("Circuit of task-manager %s calls is open", endpoint));
+        }
+        if (retryCount <= 0) {
+            retryBudget.recordCall();
+        } else if (!retryBudget.tryAcquireRetry()) {
+            circuitBreaker.releasePermission();
+            reject(endpoint, "retry-budget", String.format("Retry budget of task-manager calls is exhausted, not retrying %s call", endpoint));
+        }
+    }
+
+    public void onSuccess(final String endpoint) {
+        getCircuitBreaker(endpoint).onSuccess();
+    }
+
+    public void onFailure(final String endpoint) {
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(endpoint);
+        final CircuitBreaker.State previousState = circuitBreaker.getState();
+        circuitBreaker.onFailure();
+        if (previousState != CircuitBreaker.State.OPEN && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            LOGGER.warn("Circuit of task-manager {} calls is now open", endpoint);
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        circuitBreakers.forEach((endpoint, circuitBreaker) -> {
+            final Map<String, Object> circuitBreakerStatus = new LinkedHashMap<>();
+            circuitBreakerStatus.put("state", circuitBreaker.getState());
+            circuitBreakerStatus.put("consecutiveFailures", circuitBreaker.getConsecutiveFailures());
+            circuitBreakerStatus.put("openedAt", circuitBreaker.getOpenedAt());
+            status.put(endpoint, circuitBreakerStatus);
+        });
+        status.put("retryBudget", Map.of("calls", retryBudget.getCalls(), "retries", retryBudget.getRetries()));
+        return status;
+    }
+
+    void reset() {
+        circuitBreakers.values().forEach(CircuitBreaker::onSuccess);
+        retryBudget.reset();
+    }
+
+    private CircuitBreaker getCircuitBreaker(final String endpoint) {
+        return circuitBreakers.get(endpoint);
+    }
+
+    private void reject(final String endpoint, final String reason, final String message) {
+        Counter.builder(REJECTED_CALLS_METRIC)
+                .description("Number of task-manager calls rejected without being sent, by endpoint and reason")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        throw new TaskManagerUnavailableException(message);
+    }
+}
@@ -7,13 +7,13 @@
 package com.farao_community.farao.core_cc.adapter.service;
 
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientBeans;
 import com.farao_community.farao.core_cc.adapter.util.LoggingUtil;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -25,13 +25,19 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
+ * Calls are guarded by {@link TaskManagerResilience}: when the circuit of an endpoint is open or the retry budget
+ * is exhausted, a non-retryable exception is thrown and the fallback is called without waiting for the remaining attempts.
+ *
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 @Service
@@ -40,12 +46,14 @@ public class TaskManagerService {
     private static final String EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER = "Exception occurred during request to task-manager";
     private static final String REQUESTING_URL_ATTEMPT = "Requesting URL: {} (#{} attempt)";
 
-    private final RestTemplateBuilder restTemplateBuilder;
+    private final RestTemplate taskManagerRestTemplate;
     private final String taskManagerTimestampBaseUrl;
+    private final TaskManagerResilience taskManagerResilience;
 
-    public TaskManagerService(RestTemplateBuilder restTemplateBuilder, CoreCCAdapterConfiguration coreCCAdapterConfiguration) {
-        this.restTemplateBuilder = restTemplateBuilder;
+    public TaskManagerService(RestTemplate taskManagerRestTemplate, CoreCCAdapterConfiguration coreCCAdapterConfiguration, TaskManagerResilience taskManagerResilience) {
+        this.taskManagerRestTemplate = taskManagerRestTemplate;
         this.taskManagerTimestampBaseUrl = coreCCAdapterConfiguration.taskManagerTimestampUrl();
+        this.taskManagerResilience = taskManagerResilience;
     }
 
     @Retryable(retryFor = RetryException.class,
@@ -53,16 +61,14 @@ public class TaskManagerService {
             maxAttemptsExpression = "${retry.max-attempts}",
             recover = "fallbackGetTaskFromTimestamp")
     public Optional<TaskDto> getTaskFromTimestamp(final String timestamp) {
-        try {
-            final int retryCount = getRetryCount();
+        final int retryCount = getRetryCount();
+        return callTaskManager(TaskManagerClientBeans.GET_TASK_ENDPOINT, retryCount, () -> {
             final String requestUrl = getTaskManagerTimestampUrl(timestamp);
             final String sanifiedUrl = LoggingUtil.sanifyString(requestUrl);
             LOGGER.info(REQUESTING_URL_ATTEMPT, sanifiedUrl, retryCount);
-            final ResponseEntity<TaskDto> responseEntity = restTemplateBuilder.build().getForEntity(requestUrl, TaskDto.class); // NOSONAR
+            final ResponseEntity<TaskDto> responseEntity = taskManagerRestTemplate.getForEntity(requestUrl, TaskDto.class); // NOSONAR
             return getOptionalFromResponseEntity(responseEntity);
-        } catch (RestClientException e) {
-            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
-        }
+        });
     }
 
     @Recover
@@ -76,16 +82,14 @@ public class TaskManagerService {
             maxAttemptsExpression = "${retry.max-attempts}",
             recover = "fallbackAddNewRunInTaskHistory")
     public Optional<TaskDto> addNewRunInTaskHistory(final String timestamp, final List<ProcessFileDto> inputs) {
-        try {
-            final int retryCount = getRetryCount();
+        final int retryCount = getRetryCount();
+        return callTaskManager(TaskManagerClientBeans.ADD_RUN_ENDPOINT, retryCount, () -> {
             final HttpEntity<List<ProcessFileDto>> requestEntity = new HttpEntity<>(inputs);
             final String requestUrl = getTaskManagerTimestampUrl(timestamp) + "/runHistory";
             LOGGER.info("Requesting URL: {} with parameters: {} (#{} attempt)", requestUrl, inputs, retryCount);
-            final ResponseEntity<TaskDto> responseEntity = restTemplateBuilder.build().exchange(requestUrl, HttpMethod.PUT, requestEntity, TaskDto.class);
+            final ResponseEntity<TaskDto> responseEntity = taskManagerRestTemplate.exchange(requestUrl, HttpMethod.PUT, requestEntity, TaskDto.class);
             return getOptionalFromResponseEntity(responseEntity);
-        } catch (RestClientException e) {
-            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
-        }
+        });
     }
 
     @Recover
@@ -99,15 +103,13 @@ public class TaskManagerService {
             maxAttemptsExpression = "${retry.max-attempts}",
             recover = "fallbackUpdateTaskStatus")
     public boolean updateTaskStatus(final String timestamp, final TaskStatus taskStatus) {
-        try {
-            final int retryCount = getRetryCount();
+        final int retryCount = getRetryCount();
+        return callTaskManager(TaskManagerClientBeans.UPDATE_STATUS_ENDPOINT, retryCount, () -> {
             final String requestUrl = getTaskStatusUpdateUrl(timestamp, taskStatus);
             LOGGER.info(REQUESTING_URL_ATTEMPT, requestUrl, retryCount);
-            final ResponseEntity<TaskDto> responseEntity = restTemplateBuilder.build().exchange(requestUrl, HttpMethod.PUT, new HttpEntity<Object>(Map.of()), TaskDto.class);
+            final ResponseEntity<TaskDto> responseEntity = taskManagerRestTemplate.exchange(requestUrl, HttpMethod.PUT, new HttpEntity<Object>(Map.of()), TaskDto.class);
             return getOptionalFromResponseEntity(responseEntity).isPresent();
-        } catch (RestClientException e) {
-            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
-        }
+        });
     }
 
     @Recover
@@ -121,6 +123,32 @@ public class TaskManagerService {
         return retryContext != null ? retryContext.getRetryCount() : -1;
     }
 
+    /**
+     * Every attempt admitted by {@link TaskManagerResilience} reports its outcome, whatever the exception thrown,
+     * so that a half-open circuit never waits forever for the result of its probe.
+     */
+    private <T> T callTaskManager(final String endpoint, final int retryCount, final Supplier<T> call) {
+        taskManagerResilience.acquirePermission(endpoint, retryCount);
+        boolean taskManagerAnswered = false;
+        try {
+            final T result = call.get();
+            taskManagerAnswered = true;
+            return result;
+        } catch (HttpClientErrorException e) {
+            // The task-manager answered: a client error does not mean it is unavailable
+            taskManagerAnswered = true;
+            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
+        } catch (RestClientException e) {
+            throw new RetryException(EXCEPTION_OCCURRED_DURING_REQUEST_TO_TASK_MANAGER, e);
+        } finally {
+            if (taskManagerAnswered) {
+                taskManagerResilience.onSuccess(endpoint);
+            } else {
+                taskManagerResilience.onFailure(endpoint);
+            }
+        }
+    }
+
     private static <T> Optional<T> getOptionalFromResponseEntity(final ResponseEntity<T> responseEntity) {
         if (responseEntity != null
                 && responseEntity.getBody() != null
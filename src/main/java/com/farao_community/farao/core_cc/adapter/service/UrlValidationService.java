@@ -7,26 +7,64 @@
 package com.farao_community.farao.core_cc.adapter.service;
 
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.UrlDownloadConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Downloads whitelisted file resources through the pooled download HTTP client, see
+ * {@link com.farao_community.farao.core_cc.adapter.configuration.UrlDownloadClientBeans}.
+ * The returned stream enforces a maximum size and a total deadline: a download still running at its deadline is aborted,
+ * which also unblocks a pending read. A connection goes back to the pool once its stream has been fully read and closed.
+ *
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 @Component
 public class UrlValidationService {
+    private static final String DOWNLOAD_DURATION_METRIC = "core-cc-adapter.download.duration";
+    private static final String DOWNLOAD_ERRORS_METRIC = "core-cc-adapter.download.errors";
+    private static final String HOST_TAG = "host";
+
     private final List<String> whitelist;
+    private final CloseableHttpClient downloadHttpClient;
+    private final long totalTimeoutNanos;
+    private final long maxSizeBytes;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor();
 
-    public UrlValidationService(CoreCCAdapterConfiguration coreCCAdapterConfiguration) {
+    public UrlValidationService(CoreCCAdapterConfiguration coreCCAdapterConfiguration, UrlDownloadConfiguration urlDownloadConfiguration, CloseableHttpClient downloadHttpClient,
+                                MeterRegistry meterRegistry) {
         this.whitelist = coreCCAdapterConfiguration.whitelist();
+        this.downloadHttpClient = downloadHttpClient;
+        this.totalTimeoutNanos = urlDownloadConfiguration.totalTimeout().toNanos();
+        this.maxSizeBytes = urlDownloadConfiguration.maxSize().toBytes();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineScheduler.shutdownNow();
     }
 
     public InputStream openUrlStream(final String urlString) {
@@ -34,11 +72,190 @@ public class UrlValidationService {
             final String message = String.format("URL '%s' is not part of application's whitelisted urls: %s", urlString, String.join(", ", whitelist));
             throw new CoreCCInvalidDataException(message);
         }
+        final long startTime = System.nanoTime();
+        String host = "unknown";
+        ScheduledFuture<?> deadline = null;
+        ClassicHttpResponse response = null;
         try {
-            final URL url = new URI(urlString).toURL();
-            return url.openStream();
+            final URI uri = new URI(urlString);
+            host = getHost(uri);
+            if (!uri.isAbsolute() || uri.getHost() == null) {
+                throw new IllegalArgumentException("URL must be absolute");
+            }
+            final HttpGet request = new HttpGet(uri);
+            deadline = deadlineScheduler.schedule(request::cancel, totalTimeoutNanos, TimeUnit.NANOSECONDS);
+            response = downloadHttpClient.executeOpen(null, request, null);
+            final HttpEntity entity = response.getEntity();
+            if (response.getCode() >= HttpStatus.SC_REDIRECTION || entity == null) {
+                throw new IOException(String.format("Unexpected response %d", response.getCode()));
+            }
+            return new DownloadInputStream(entity.getContent(), request, response, deadline, urlString, host, startTime);
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+            closeQuietly(response);
+            getErrorCounter(host).increment();
             throw new CoreCCInvalidDataException(String.format("Cannot download file resource from URL '%s'", urlString), e);
         }
     }
+
+    private static String getHost(final URI uri) {
+        return uri.getHost() == null || uri.getHost().isEmpty() ? String.valueOf(uri.getScheme()) : uri.getHost();
+    }
+
+    private static void closeQuietly(final ClassicHttpResponse response) {
+        if (response != null) {
+            try {
+                response.close();
+            } catch (IOException e) {
+                // The connection is discarded anyway
+            }
+        }
+    }
+
+    private Counter getErrorCounter(final String host) {
+        return Counter.builder(DOWNLOAD_ERRORS_METRIC)
+                .description("Number of failed file resource downloads, by host")
+                .tag(HOST_TAG, host)
+                .register(meterRegistry);
+    }
+
+    private Timer getDurationTimer(final String host) {
+        return Timer.builder(DOWNLOAD_DURATION_METRIC)
+                .description("Duration of file resource downloads, from connection to end of consumption, by host")
+                .tag(HOST_TAG, host)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enforces the total deadline and the maximum size while the download is consumed.
+     * A single blocked read is bounded by the read timeout of the connection, and aborted at the total deadline.
+     */
+    private final class DownloadInputStream extends FilterInputStream {
+        private final HttpGet request;
+        private final ClassicHttpResponse response;
+        private final ScheduledFuture<?> deadline;
+        private final String urlString;
+        private final String host;
+        private final long startTime;
+        private long readBytes;
+        private boolean endOfStream;
+        private boolean failed;
+        private boolean closed;
+
+        private DownloadInputStream(final InputStream inputStream, final HttpGet request, final ClassicHttpResponse response, final ScheduledFuture<?> deadline,
+                                    final String urlString, final String host, final long startTime) {
+            super(inputStream);
+            this.request = request;
+            this.response = response;
+            this.deadline = deadline;
+            this.urlString = urlString;
+            this.host = host;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeadline();
+            final int readByte = runRead(super::read);
+            if (readByte >= 0) {
+                addReadBytes(1);
+            } else {
+                endOfStream = true;
+            }
+            return readByte;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            checkDeadline();
+            final int count = runRead(() -> super.read(buffer, offset, length));
+            if (count > 0) {
+                addReadBytes(count);
+            } else if (count < 0) {
+                endOfStream = true;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            checkDeadline();
+            final long count = runRead(() -> (int) super.skip(Math.min(n, Integer.MAX_VALUE)));
+            addReadBytes(count);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            deadline.cancel(false);
+            if (!failed) {
+                getDurationTimer(host).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+            if (endOfStream) {
+                // The fully read connection goes back to the pool
+                try {
+                    super.close();
+                } finally {
+                    response.close();
+                }
+            } else {
+                // Closing the content would download the rest of the file to reuse the connection, it is discarded instead
+                request.cancel();
+                closeQuietly(response);
+            }
+        }
+
+        private int runRead(final IntReader reader) throws IOException {
+            try {
+                return reader.read();
+            } catch (IOException e) {
+                fail();
+                if (isDeadlineExceeded()) {
+                    throw new IOException(getTotalTimeoutMessage(), e);
+                }
+                throw e;
+            }
+        }
+
+        private void checkDeadline() throws IOException {
+            if (isDeadlineExceeded()) {
+                fail();
+                throw new IOException(getTotalTimeoutMessage());
+            }
+        }
+
+        private boolean isDeadlineExceeded() {
+            return System.nanoTime() - startTime >= totalTimeoutNanos;
+        }
+
+        private String getTotalTimeoutMessage() {
+            return String.format("Download from URL '%s' exceeded its total timeout", urlString);
+        }
+
+        private void addReadBytes(final long count) throws IOException {
+            readBytes += count;
+            if (readBytes > maxSizeBytes) {
+                fail();
+                throw new IOException(String.format("Download from URL '%s' exceeded its maximum size of %d bytes", urlString, maxSizeBytes));
+            }
+        }
+
+        private void fail() {
+            if (!failed) {
+                failed = true;
+                getErrorCounter(host).increment();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntReader {
+        int read() throws IOException;
+    }
 }
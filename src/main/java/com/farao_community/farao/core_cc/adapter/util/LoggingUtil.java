@@ -6,6 +6,11 @@
  */
 package com.farao_community.farao.core_cc.adapter.util;
 
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  * @author Marc Schwitzguébel {@literal <marc.schwitzguebel at rte-france.com>}
@@ -20,4 +25,29 @@ public final class LoggingUtil {
                 ? "null"
                 : input.replaceAll("[\n\r]", "_");
     }
+
+    /**
+     * Wraps a continuation of an asynchronous stage so that it logs with the MDC context of the thread wrapping it,
+     * whatever the thread completing the previous stage. The context of that thread is restored afterwards.
+     */
+    public static <T, R> Function<T, R> withLoggingContext(final Function<T, R> function) {
+        final Map<String, String> loggingContext = MDC.getCopyOfContextMap();
+        return value -> {
+            final Map<String, String> previousLoggingContext = MDC.getCopyOfContextMap();
+            setLoggingContext(loggingContext);
+            try {
+                return function.apply(value);
+            } finally {
+                setLoggingContext(previousLoggingContext);
+            }
+        };
+    }
+
+    private static void setLoggingContext(final Map<String, String> loggingContext) {
+        if (loggingContext != null) {
+            MDC.setContextMap(loggingContext);
+        } else {
+            MDC.clear();
+        }
+    }
 }
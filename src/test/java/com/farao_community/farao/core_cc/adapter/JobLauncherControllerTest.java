@@ -7,8 +7,14 @@
 package com.farao_community.farao.core_cc.adapter;
 
 import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
 import com.farao_community.farao.core_cc.adapter.exception.TaskNotFoundException;
+import com.farao_community.farao.core_cc.adapter.service.AsyncJobLauncherService;
+import com.farao_community.farao.core_cc.adapter.service.AsyncLaunchStatus;
+import com.farao_community.farao.core_cc.adapter.service.JobLaunchOutcome;
+import com.farao_community.farao.core_cc.adapter.service.JobLauncherBatchService;
 import com.farao_community.farao.core_cc.adapter.service.JobLauncherManualService;
+import com.farao_community.farao.core_cc.adapter.service.LaunchRegistry;
 import com.farao_community.farao.gridcapa.task_manager.api.ParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import org.assertj.core.api.Assertions;
@@ -21,7 +27,15 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -35,13 +49,17 @@ class JobLauncherControllerTest {
 
     @MockitoBean
     private JobLauncherManualService jobLauncherService;
+    @MockitoBean
+    private JobLauncherBatchService jobLauncherBatchService;
+    @MockitoBean
+    private AsyncJobLauncherService asyncJobLauncherService;
 
     @Test
     void launchJobOk() {
         final String timestamp = "2021-12-09T21:30";
-        Mockito.doNothing().when(jobLauncherService).launchJob(timestamp, List.of());
+        Mockito.when(jobLauncherService.launchJobAsync(timestamp, List.of())).thenReturn(CompletableFuture.completedFuture(null));
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of());
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of()).join();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
@@ -50,12 +68,12 @@ class JobLauncherControllerTest {
     void launchJobWithParametersOk() {
         final String timestamp = "2021-12-09T21:30";
         final List<ParameterDto> parameterDtos = List.of(new ParameterDto("id", "name", 1, "type", "title", 1, "value", "defaultValue"));
-        Mockito.doNothing().when(jobLauncherService).launchJob(Mockito.eq(timestamp), Mockito.anyList());
+        Mockito.when(jobLauncherService.launchJobAsync(Mockito.eq(timestamp), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(null));
 
         final ArgumentCaptor<List<TaskParameterDto>> captor = ArgumentCaptor.forClass(List.class);
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtos);
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, parameterDtos).join();
 
-        Mockito.verify(jobLauncherService).launchJob(Mockito.eq(timestamp), captor.capture());
+        Mockito.verify(jobLauncherService).launchJobAsync(Mockito.eq(timestamp), captor.capture());
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         Assertions.assertThat(captor.getValue())
                 .isNotNull()
@@ -70,9 +88,9 @@ class JobLauncherControllerTest {
     @Test
     void launchJobTaskNotFoundTest() {
         final String timestamp = "2021-12-09T21:30";
-        Mockito.doThrow(TaskNotFoundException.class).when(jobLauncherService).launchJob(timestamp, List.of());
+        Mockito.when(jobLauncherService.launchJobAsync(timestamp, List.of())).thenReturn(CompletableFuture.failedFuture(new TaskNotFoundException()));
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of());
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of()).join();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -80,10 +98,123 @@ class JobLauncherControllerTest {
     @Test
     void launchJobInvalidDataTest() {
         final String timestamp = "2021-12-09T21:30";
-        Mockito.doThrow(CoreCCAdapterException.class).when(jobLauncherService).launchJob(timestamp, List.of());
+        Mockito.when(jobLauncherService.launchJobAsync(timestamp, List.of())).thenThrow(CoreCCAdapterException.class);
+
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void launchJobRejectedTest() {
+        final String timestamp = "2021-12-09T21:30";
+        Mockito.when(jobLauncherService.launchJobAsync(timestamp, List.of()))
+                .thenReturn(CompletableFuture.failedFuture(new LaunchRejectedException("Launch queue of manual launches is full")));
+
+        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void launchBusinessDayOk() {
+        final List<JobLaunchOutcome> outcomes = List.of(new JobLaunchOutcome("2024-06-17T22:30Z", JobLaunchOutcome.Status.LAUNCHED, null));
+        Mockito.when(jobLauncherBatchService.launchBusinessDay(LocalDate.parse("2024-06-18"), List.of())).thenReturn(CompletableFuture.completedFuture(outcomes));
+
+        final ResponseEntity<List<JobLaunchOutcome>> response = jobLauncherController.launchBusinessDay("2024-06-18", List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEqualTo(outcomes);
+    }
+
+    @Test
+    void launchBusinessDayInvalidDateTest() {
+        final ResponseEntity<List<JobLaunchOutcome>> response = jobLauncherController.launchBusinessDay("2024-06-31", List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verifyNoInteractions(jobLauncherBatchService);
+    }
+
+    @Test
+    void launchTimestampRangeOk() {
+        final OffsetDateTime from = OffsetDateTime.parse("2024-06-18T08:30Z");
+        final OffsetDateTime to = OffsetDateTime.parse("2024-06-18T09:30Z");
+        final List<JobLaunchOutcome> outcomes = List.of(
+                new JobLaunchOutcome("2024-06-18T08:30Z", JobLaunchOutcome.Status.LAUNCHED, null),
+                new JobLaunchOutcome("2024-06-18T09:30Z", JobLaunchOutcome.Status.NOT_READY, null));
+        Mockito.when(jobLauncherBatchService.launchTimestampRange(from, to, List.of())).thenReturn(CompletableFuture.completedFuture(outcomes));
+
+        final ResponseEntity<List<JobLaunchOutcome>> response = jobLauncherController.launchTimestampRange("2024-06-18T08:30Z", "2024-06-18T09:30Z", List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEqualTo(outcomes);
+    }
+
+    @Test
+    void launchTimestampRangeInvalidRangeTest() {
+        Mockito.when(jobLauncherBatchService.launchTimestampRange(Mockito.any(), Mockito.any(), Mockito.anyList())).thenThrow(CoreCCAdapterException.class);
 
-        final ResponseEntity<Void> response = jobLauncherController.launchJob(timestamp, List.of());
+        final ResponseEntity<List<JobLaunchOutcome>> response = jobLauncherController.launchTimestampRange("2024-06-18T09:30Z", "2024-06-18T08:30Z", List.of()).join();
 
         Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
+
+    @Test
+    void launchBusinessDayRejectedTest() {
+        Mockito.when(jobLauncherBatchService.launchBusinessDay(LocalDate.parse("2024-06-18"), List.of())).thenThrow(LaunchRejectedException.class);
+
+        final ResponseEntity<List<JobLaunchOutcome>> response = jobLauncherController.launchBusinessDay("2024-06-18", List.of()).join();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void getInFlightLaunchesTest() {
+        final ResponseEntity<List<LaunchRegistry.LaunchState>> response = jobLauncherController.getInFlightLaunches();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody()).isEmpty();
+    }
+
+    @Test
+    void launchJobAsyncAcceptedTest() {
+        final String timestamp = "2024-06-18T08:30Z";
+        final AsyncLaunchStatus status = new AsyncLaunchStatus(UUID.randomUUID(), timestamp, AsyncLaunchStatus.State.QUEUED, null, Instant.now(), null, null, null, null);
+        Mockito.when(asyncJobLauncherService.submit(timestamp, List.of())).thenReturn(status);
+
+        final ResponseEntity<AsyncLaunchStatus> response = jobLauncherController.launchJobAsync(timestamp, List.of());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        Assertions.assertThat(response.getHeaders().getLocation()).isEqualTo(URI.create("/launches/" + status.launchId()));
+        Assertions.assertThat(response.getBody()).isEqualTo(status);
+    }
+
+    @Test
+    void launchJobAsyncInvalidTimestampTest() {
+        Mockito.when(asyncJobLauncherService.submit("invalid", List.of())).thenThrow(CoreCCAdapterException.class);
+
+        final ResponseEntity<AsyncLaunchStatus> response = jobLauncherController.launchJobAsync("invalid", List.of());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void launchJobAsyncRejectedTest() {
+        final String timestamp = "2024-06-18T08:30Z";
+        Mockito.when(asyncJobLauncherService.submit(timestamp, List.of())).thenThrow(RejectedExecutionException.class);
+
+        final ResponseEntity<AsyncLaunchStatus> response = jobLauncherController.launchJobAsync(timestamp, List.of());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void getLaunchStatusNotFoundTest() {
+        final UUID launchId = UUID.randomUUID();
+        Mockito.when(asyncJobLauncherService.getStatus(launchId)).thenReturn(Optional.empty());
+
+        final ResponseEntity<AsyncLaunchStatus> response = jobLauncherController.getLaunchStatus(launchId);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskManagerClientBeansTest {
+
+    @Test
+    void endpointIsResolvedFromUri() {
+        Assertions.assertThat(TaskManagerClientBeans.getEndpoint(URI.create("http://task-manager/tasks/timestamp/2024-06-18T09:30Z")))
+                .isEqualTo(TaskManagerClientBeans.GET_TASK_ENDPOINT);
+        Assertions.assertThat(TaskManagerClientBeans.getEndpoint(URI.create("http://task-manager/tasks/timestamp/2024-06-18T09:30Z/runHistory")))
+                .isEqualTo(TaskManagerClientBeans.ADD_RUN_ENDPOINT);
+        Assertions.assertThat(TaskManagerClientBeans.getEndpoint(URI.create("http://task-manager/tasks/timestamp/2024-06-18T09:30Z/status?status=PENDING")))
+                .isEqualTo(TaskManagerClientBeans.UPDATE_STATUS_ENDPOINT);
+    }
+
+    @Test
+    void endpointResponseTimeoutOverridesDefault() {
+        final TaskManagerClientConfiguration configuration = getConfiguration(false);
+
+        Assertions.assertThat(configuration.getResponseTimeout(TaskManagerClientBeans.ADD_RUN_ENDPOINT)).isEqualTo(Duration.ofMinutes(1));
+        Assertions.assertThat(configuration.getResponseTimeout(TaskManagerClientBeans.GET_TASK_ENDPOINT)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void pooledClientExposesPoolMetrics() {
+        getContextRunner(false).run(context -> {
+            Assertions.assertThat(context.getBean(RestTemplate.class).getRequestFactory()).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+            Assertions.assertThat(context.getBean(MeterRegistry.class).get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "task-manager").gauge().value())
+                    .isEqualTo(5);
+        });
+    }
+
+    @Test
+    void pooledClientIsClosedWithContext() {
+        final AtomicReference<PoolingHttpClientConnectionManager> connectionManager = new AtomicReference<>();
+
+        getContextRunner(false).run(context -> connectionManager.set(context.getBean(PoolingHttpClientConnectionManager.class)));
+
+        final HttpRoute route = new HttpRoute(new HttpHost("http", "task-manager", 80));
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> connectionManager.get().lease("lease-id", route, Timeout.ofSeconds(1), null))
+                .withMessageContaining("shut down");
+    }
+
+    @Test
+    void http2ClientUsesJdkClient() {
+        getContextRunner(true).run(context -> {
+            Assertions.assertThat(context).hasSingleBean(HttpClient.class);
+            Assertions.assertThat(context).doesNotHaveBean(PoolingHttpClientConnectionManager.class);
+        });
+    }
+
+    @Test
+    void http2ClientAppliesEndpointResponseTimeouts() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/tasks/", TaskManagerClientBeansTest::respondAfterDelay);
+        server.start();
+        final String tasksUrl = "http://localhost:" + server.getAddress().getPort() + "/tasks/timestamp/2024-06-18T09:30Z";
+        // Responses take 500ms: longer than the default response timeout, shorter than the add-run one
+        final TaskManagerClientConfiguration configuration = new TaskManagerClientConfiguration(5, Duration.ofSeconds(1), Duration.ofMillis(200),
+                Map.of(TaskManagerClientBeans.ADD_RUN_ENDPOINT, Duration.ofSeconds(5)), Duration.ofSeconds(30), true);
+        try {
+            getContextRunner(true, configuration).run(context -> {
+                final RestTemplate restTemplate = context.getBean(RestTemplate.class);
+
+                Assertions.assertThatExceptionOfType(ResourceAccessException.class)
+                        .isThrownBy(() -> restTemplate.getForObject(tasksUrl, String.class));
+                Assertions.assertThat(restTemplate.getForObject(tasksUrl + "/runHistory", String.class)).isEqualTo("ok");
+            });
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static void respondAfterDelay(final HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final byte[] body = "ok".getBytes();
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        } catch (IOException e) {
+            // The client has given up on the response
+        }
+    }
+
+    private static ApplicationContextRunner getContextRunner(final boolean http2) {
+        return getContextRunner(http2, getConfiguration(http2));
+    }
+
+    private static ApplicationContextRunner getContextRunner(final boolean http2, final TaskManagerClientConfiguration configuration) {
+        return new ApplicationContextRunner()
+                .withPropertyValues("core-cc-adapter.task-manager-client.http2=" + http2)
+                .withBean(RestTemplateBuilder.class, RestTemplateBuilder::new)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withBean(TaskManagerClientConfiguration.class, () -> configuration)
+                .withUserConfiguration(TaskManagerClientBeans.class);
+    }
+
+    private static TaskManagerClientConfiguration getConfiguration(final boolean http2) {
+        return new TaskManagerClientConfiguration(5, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Map.of(TaskManagerClientBeans.ADD_RUN_ENDPOINT, Duration.ofMinutes(1)), Duration.ofSeconds(30), http2);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.AsyncLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AsyncJobLauncherServiceTest {
+    private static final String TIMESTAMP = "2024-06-18T08:30Z";
+
+    private JobLauncherManualService jobLauncherManualService;
+    private LaunchRegistry launchRegistry;
+    private AsyncJobLauncherService service;
+
+    @BeforeEach
+    void init() {
+        jobLauncherManualService = Mockito.mock(JobLauncherManualService.class);
+        launchRegistry = new LaunchRegistry(new InMemoryLaunchClaimStore(Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        service = new AsyncJobLauncherService(jobLauncherManualService, new AsyncLaunchConfiguration(1, 1, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void completedLaunchReportsOutcomeTest() {
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenReturn(JobLaunchOutcome.Status.LAUNCHED);
+
+        final UUID launchId = service.submit(TIMESTAMP, List.of()).launchId();
+
+        final AsyncLaunchStatus status = awaitCompletion(launchId);
+        Assertions.assertThat(status.timestamp()).isEqualTo(TIMESTAMP);
+        Assertions.assertThat(status.outcome()).isEqualTo(JobLaunchOutcome.Status.LAUNCHED);
+        Assertions.assertThat(status.startedAt()).isNotNull();
+        Assertions.assertThat(status.finishedAt()).isAfterOrEqualTo(status.startedAt());
+        Assertions.assertThat(status.message()).isNull();
+    }
+
+    @Test
+    void failedLaunchReportsMessageTest() {
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenThrow(new CoreCCAdapterException("Task manager unreachable"));
+
+        final UUID launchId = service.submit(TIMESTAMP, List.of()).launchId();
+
+        final AsyncLaunchStatus status = awaitCompletion(launchId);
+        Assertions.assertThat(status.outcome()).isEqualTo(JobLaunchOutcome.Status.FAILED);
+        Assertions.assertThat(status.message()).isEqualTo("Task manager unreachable");
+    }
+
+    @Test
+    void runningLaunchReportsStageTest() throws InterruptedException {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenAnswer(invocation -> {
+            final LaunchRegistry.Launch launch = launchRegistry.tryStart(TIMESTAMP, LaunchRegistry.Source.MANUAL).orElseThrow();
+            invocation.<Consumer<LaunchRegistry.Launch>>getArgument(2).accept(launch);
+            launch.setStage(LaunchRegistry.Stage.RESOLVING_INPUTS);
+            running.countDown();
+            release.await();
+            launchRegistry.finish(launch);
+            return JobLaunchOutcome.Status.LAUNCHED;
+        });
+
+        final UUID launchId = service.submit(TIMESTAMP, List.of()).launchId();
+        final AsyncLaunchStatus queued = service.submit("2024-06-18T09:30Z", List.of());
+        Assertions.assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(service.getStatus(launchId)).get()
+                .hasFieldOrPropertyWithValue("state", AsyncLaunchStatus.State.RUNNING)
+                .hasFieldOrPropertyWithValue("stage", LaunchRegistry.Stage.RESOLVING_INPUTS);
+        Assertions.assertThat(queued.state()).isEqualTo(AsyncLaunchStatus.State.QUEUED);
+        Assertions.assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> service.submit("2024-06-18T10:30Z", List.of()));
+        release.countDown();
+        Assertions.assertThat(awaitCompletion(launchId).outcome()).isEqualTo(JobLaunchOutcome.Status.LAUNCHED);
+    }
+
+    @Test
+    void runningLaunchDoesNotReportStageOfAnotherLaunchTest() throws InterruptedException {
+        final LaunchRegistry.Launch automaticLaunch = launchRegistry.tryStart(TIMESTAMP, LaunchRegistry.Source.AUTOMATIC).orElseThrow();
+        automaticLaunch.setStage(LaunchRegistry.Stage.DISPATCHING);
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.eq(TIMESTAMP), Mockito.eq(List.of()), Mockito.any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return JobLaunchOutcome.Status.ALREADY_BEING_LAUNCHED;
+        });
+
+        final UUID launchId = service.submit(TIMESTAMP, List.of()).launchId();
+        Assertions.assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(service.getStatus(launchId)).get()
+                .hasFieldOrPropertyWithValue("state", AsyncLaunchStatus.State.RUNNING)
+                .hasFieldOrPropertyWithValue("stage", null);
+        release.countDown();
+        Assertions.assertThat(awaitCompletion(launchId).outcome()).isEqualTo(JobLaunchOutcome.Status.ALREADY_BEING_LAUNCHED);
+        launchRegistry.finish(automaticLaunch);
+    }
+
+    @Test
+    void invalidTimestampIsRejectedTest() {
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> service.submit("2024-06-18T08:30", List.of()))
+                .withMessage("Invalid timestamp 2024-06-18T08:30");
+        Mockito.verifyNoInteractions(jobLauncherManualService);
+    }
+
+    @Test
+    void rejectedLaunchIsForgottenAndKeepsOtherStatusesTest() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.anyString(), Mockito.anyList(), Mockito.any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return JobLaunchOutcome.Status.LAUNCHED;
+        });
+        final UUID runningLaunchId = service.submit(TIMESTAMP, List.of()).launchId();
+        final UUID queuedLaunchId = service.submit("2024-06-18T09:30Z", List.of()).launchId();
+
+        Assertions.assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> service.submit("2024-06-18T10:30Z", List.of()));
+
+        Assertions.assertThat(service.getStatus(runningLaunchId)).isPresent();
+        Assertions.assertThat(service.getStatus(queuedLaunchId)).isPresent();
+        release.countDown();
+        awaitCompletion(runningLaunchId);
+        awaitCompletion(queuedLaunchId);
+    }
+
+    @Test
+    void oldestStatusesAreForgottenTest() {
+        Mockito.when(jobLauncherManualService.tryLaunchJob(Mockito.anyString(), Mockito.anyList(), Mockito.any())).thenReturn(JobLaunchOutcome.Status.LAUNCHED);
+
+        final UUID firstLaunchId = service.submit(TIMESTAMP, List.of()).launchId();
+        awaitCompletion(firstLaunchId);
+        awaitCompletion(service.submit("2024-06-18T09:30Z", List.of()).launchId());
+        awaitCompletion(service.submit("2024-06-18T10:30Z", List.of()).launchId());
+
+        Assertions.assertThat(service.getStatus(firstLaunchId)).isEmpty();
+    }
+
+    private AsyncLaunchStatus awaitCompletion(final UUID launchId) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            final AsyncLaunchStatus status = service.getStatus(launchId).orElseThrow();
+            if (status.state() == AsyncLaunchStatus.State.COMPLETED) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Launch " + launchId + " not completed");
+    }
+}
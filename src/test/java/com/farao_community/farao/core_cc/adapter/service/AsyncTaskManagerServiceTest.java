@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerResilienceConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AsyncTaskManagerServiceTest {
+    private static final String TIMESTAMP = "2024-09-13T09:30Z";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private HttpServer server;
+    private AtomicInteger failuresBeforeSuccess;
+    private int failureStatus;
+    private AtomicInteger requestCount;
+    private Queue<String> requests;
+    private AsyncTaskManagerService service;
+
+    @BeforeEach
+    void init() throws IOException {
+        failuresBeforeSuccess = new AtomicInteger();
+        failureStatus = 500;
+        requestCount = new AtomicInteger();
+        requests = new ConcurrentLinkedQueue<>();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/tasks/", this::handle);
+        server.start();
+
+        final CoreCCAdapterConfiguration coreCCAdapterConfiguration = Mockito.mock(CoreCCAdapterConfiguration.class);
+        Mockito.when(coreCCAdapterConfiguration.taskManagerTimestampUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() + "/tasks/");
+        service = getService(coreCCAdapterConfiguration, new TaskManagerResilienceConfiguration(5, Duration.ofMinutes(1), 0.2, 10, Duration.ofMinutes(1)));
+    }
+
+    private AsyncTaskManagerService getService(final CoreCCAdapterConfiguration coreCCAdapterConfiguration, final TaskManagerResilienceConfiguration resilienceConfiguration) {
+        final TaskManagerClientConfiguration clientConfiguration = new TaskManagerClientConfiguration(5, Duration.ofSeconds(1), Duration.ofSeconds(2), Map.of(), Duration.ofSeconds(30), false);
+        final TaskManagerResilience resilience = new TaskManagerResilience(resilienceConfiguration, new SimpleMeterRegistry());
+        return new AsyncTaskManagerService(coreCCAdapterConfiguration, clientConfiguration, resilience, objectMapper, 50, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void getTaskFromTimestampNoRetry() throws Exception {
+        final Optional<TaskDto> result = service.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(result.get().getStatus()).isEqualTo(TaskStatus.READY);
+        Assertions.assertThat(requests).containsExactly("GET /tasks/" + TIMESTAMP);
+    }
+
+    @Test
+    void getTaskFromTimestampWithRetry() throws Exception {
+        failuresBeforeSuccess.set(2);
+
+        final Optional<TaskDto> result = service.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(requestCount).hasValue(3);
+    }
+
+    @Test
+    void getTaskFromTimestampFallbackAfterMaxAttempts() throws Exception {
+        failuresBeforeSuccess.set(3);
+
+        final Optional<TaskDto> result = service.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isEmpty();
+        Assertions.assertThat(requestCount).hasValue(3);
+    }
+
+    @Test
+    void retriesDoNotBlockCallingThread() {
+        failuresBeforeSuccess.set(2);
+
+        final long start = System.nanoTime();
+        service.getTaskFromTimestamp(TIMESTAMP);
+
+        Assertions.assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    void addNewRunInTaskHistoryOk() throws Exception {
+        final List<ProcessFileDto> inputs = List.of(new ProcessFileDto("path/cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.parse("2024-09-13T08:00Z")));
+
+        final Optional<TaskDto> result = service.addNewRunInTaskHistory(TIMESTAMP, inputs).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(requests).hasSize(1);
+        Assertions.assertThat(requests.peek()).startsWith("PUT /tasks/" + TIMESTAMP + "/runHistory ").contains("cgm-document-id");
+    }
+
+    @Test
+    void updateTaskStatusOk() throws Exception {
+        final Boolean result = service.updateTaskStatus(TIMESTAMP, TaskStatus.PENDING).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isTrue();
+        Assertions.assertThat(requests).containsExactly("PUT /tasks/" + TIMESTAMP + "/status?status=PENDING {}");
+    }
+
+    @Test
+    void updateTaskStatusFallbackAfterMaxAttempts() throws Exception {
+        failuresBeforeSuccess.set(3);
+
+        final Boolean result = service.updateTaskStatus(TIMESTAMP, TaskStatus.PENDING).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isFalse();
+    }
+
+    @Test
+    void getTaskFromTimestampFailsFastWhenCircuitIsOpen() throws Exception {
+        final CoreCCAdapterConfiguration coreCCAdapterConfiguration = Mockito.mock(CoreCCAdapterConfiguration.class);
+        Mockito.when(coreCCAdapterConfiguration.taskManagerTimestampUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() + "/tasks/");
+        final AsyncTaskManagerService serviceWithBreaker = getService(coreCCAdapterConfiguration, new TaskManagerResilienceConfiguration(2, Duration.ofMinutes(1), 0.2, 10, Duration.ofMinutes(1)));
+        failuresBeforeSuccess.set(10);
+
+        final Optional<TaskDto> result = serviceWithBreaker.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertThat(result).isEmpty();
+        Assertions.assertThat(requestCount).hasValue(2);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() throws Exception {
+        final CoreCCAdapterConfiguration coreCCAdapterConfiguration = Mockito.mock(CoreCCAdapterConfiguration.class);
+        Mockito.when(coreCCAdapterConfiguration.taskManagerTimestampUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() + "/tasks/");
+        final AsyncTaskManagerService serviceWithBreaker = getService(coreCCAdapterConfiguration, new TaskManagerResilienceConfiguration(2, Duration.ofMinutes(1), 0.2, 10, Duration.ofMinutes(1)));
+        failureStatus = 404;
+        failuresBeforeSuccess.set(4);
+
+        Assertions.assertThat(serviceWithBreaker.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS)).isEmpty();
+        Assertions.assertThat(serviceWithBreaker.getTaskFromTimestamp(TIMESTAMP).get(5, TimeUnit.SECONDS)).isPresent();
+        Assertions.assertThat(requestCount).hasValue(5);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add((exchange.getRequestMethod() + " " + exchange.getRequestURI() + " " + body).trim());
+        if (failuresBeforeSuccess.getAndDecrement() > 0) {
+            exchange.sendResponseHeaders(failureStatus, -1);
+            exchange.close();
+            return;
+        }
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(TIMESTAMP), TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        final byte[] response = objectMapper.writeValueAsBytes(taskDto);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+}
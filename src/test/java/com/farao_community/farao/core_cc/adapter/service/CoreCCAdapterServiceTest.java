@@ -16,15 +16,11 @@ import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
 import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
-import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.Payload;
-import com.farao_community.farao.gridcapa_core_cc.app.inputs.rao_request.RequestMessage;
 import com.farao_community.farao.gridcapa_core_cc.starter.CoreCCClient;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
-import com.unicorn.request.request_payload.File;
-import com.unicorn.request.request_payload.Files;
-import com.unicorn.request.request_payload.RequestItem;
-import com.unicorn.request.request_payload.RequestItems;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -39,6 +35,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -59,14 +57,29 @@ class CoreCCAdapterServiceTest {
     @MockitoBean
     private StreamBridge streamBridge;
     @MockitoBean
-    private TaskManagerService taskManagerService;
+    private AsyncTaskManagerService asyncTaskManagerService;
+    @Autowired
+    private RaoRequestCache raoRequestCache;
+    @Autowired
+    private PresignedUrlService presignedUrlService;
+    @Autowired
+    private LaunchPlanCache launchPlanCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        raoRequestCache.invalidateAll();
+        presignedUrlService.invalidateAll();
+        launchPlanCache.invalidateAll();
+    }
 
     @Test
     void missingRaoRequestFileTest() {
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-06-18T09:30Z"), TaskStatus.READY, List.of(), List.of(), null, null, null, null);
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, false))
+                .isThrownBy(() -> handleTask(taskDto, false))
                 .withMessage("Some input files are missing, the task can't be launched");
         Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No RAOREQUEST file found in task 2024-06-18T09:30Z");
     }
@@ -78,10 +91,10 @@ class CoreCCAdapterServiceTest {
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, List.of(raoRequestProcessFile), List.of(raoRequestProcessFile), null, null, null, null);
 
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("http://test-uri/F302", 1)).thenReturn("preSignedUrl");
-        Mockito.when(fileImporter.importRaoRequest(Mockito.any())).thenThrow(RaoRequestImportException.class);
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenThrow(RaoRequestImportException.class);
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, false))
+                .isThrownBy(() -> handleTask(taskDto, false))
                 .withMessage("Error occurred during loading of RAOREQUEST file content")
                 .withCauseInstanceOf(RaoRequestImportException.class);
     }
@@ -92,17 +105,11 @@ class CoreCCAdapterServiceTest {
         final OffsetDateTime timestamp = OffsetDateTime.now();
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, List.of(raoRequestProcessFile), List.of(raoRequestProcessFile), null, null, null, null);
 
-        final RequestMessage requestMessage = new RequestMessage();
-        final Payload payload = new Payload();
-        final RequestItems requestItems = new RequestItems();
-        requestMessage.setPayload(payload);
-        payload.setRequestItems(requestItems);
-
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("http://test-uri/F302", 1)).thenReturn("preSignedUrl");
-        Mockito.when(fileImporter.importRaoRequest(Mockito.any())).thenReturn(requestMessage);
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(RaoRequestIndex.builder().build());
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, false))
+                .isThrownBy(() -> handleTask(taskDto, false))
                 .withMessage("No data for timestamp " + timestamp + " in RAOREQUEST file");
     }
 
@@ -111,29 +118,32 @@ class CoreCCAdapterServiceTest {
         final ProcessFileDto raoRequestProcessFile = new ProcessFileDto("http://test-uri/F302", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-06-18T09:30Z"), TaskStatus.READY, List.of(raoRequestProcessFile), List.of(raoRequestProcessFile), null, null, null, null);
 
-        final RequestMessage requestMessage = new RequestMessage();
-        final Payload payload = new Payload();
-        final RequestItems requestItems = new RequestItems();
-        final RequestItem requestItem = new RequestItem();
-        final Files files = new Files();
-        final File file = new File();
-        requestMessage.setPayload(payload);
-        payload.setRequestItems(requestItems);
-        requestItem.setTimeInterval("2024-06-18T09:00Z/2024-06-18T10:00Z");
-        requestItem.setFiles(files);
-        requestItems.getRequestItem().add(requestItem);
-        files.getFile().add(file);
-        file.setUrl("documentIdentification://test-document-id");
-
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("http://test-uri/F302", 1)).thenReturn("preSignedUrl");
-        Mockito.when(fileImporter.importRaoRequest(Mockito.any())).thenReturn(requestMessage);
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(getRaoRequestIndex(List.of("test-document-id")));
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, false))
+                .isThrownBy(() -> handleTask(taskDto, false))
                 .withMessage("Some input files are missing, the task can't be launched");
         Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No file found in task 2024-06-18T09:30Z matching DocumentId test-document-id");
     }
 
+    @Test
+    void allMissingInputFilesAreReportedTest() throws RaoRequestImportException {
+        final ProcessFileDto raoRequestProcessFile = new ProcessFileDto("http://test-uri/F302", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
+        final ProcessFileDto cgmProcessFile = new ProcessFileDto("http://test-uri/F119", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.now());
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-06-18T09:30Z"), TaskStatus.READY, List.of(raoRequestProcessFile, cgmProcessFile), List.of(raoRequestProcessFile, cgmProcessFile), null, null, null, null);
+
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(getRaoRequestIndex(List.of("cgm-document-id", "glsk-document-id", "cbcora-document-id")));
+
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> handleTask(taskDto, false))
+                .withMessage("Some input files are missing, the task can't be launched");
+        Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No file found in task 2024-06-18T09:30Z matching DocumentId glsk-document-id");
+        Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No file found in task 2024-06-18T09:30Z matching DocumentId cbcora-document-id");
+        Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No VIRTUALHUB file found in task 2024-06-18T09:30Z");
+        Mockito.verifyNoInteractions(asyncTaskManagerService);
+    }
+
     @Test
     void missingVirtualhubFileTest() throws RaoRequestImportException {
         final ProcessFileDto raoRequestProcessFile = new ProcessFileDto("http://test-uri/F302", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
@@ -141,26 +151,12 @@ class CoreCCAdapterServiceTest {
         final ProcessFileDto cgmProcessFile = new ProcessFileDto(cgmFilePath, "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.now());
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-06-18T09:30Z"), TaskStatus.READY, List.of(raoRequestProcessFile, cgmProcessFile), List.of(raoRequestProcessFile, cgmProcessFile), null, null, null, null);
 
-        final RequestMessage requestMessage = new RequestMessage();
-        final Payload payload = new Payload();
-        final RequestItems requestItems = new RequestItems();
-        final RequestItem requestItem = new RequestItem();
-        final Files files = new Files();
-        final File file = new File();
-        requestMessage.setPayload(payload);
-        payload.setRequestItems(requestItems);
-        requestItem.setTimeInterval("2024-06-18T09:00Z/2024-06-18T10:00Z");
-        requestItem.setFiles(files);
-        requestItems.getRequestItem().add(requestItem);
-        files.getFile().add(file);
-        file.setUrl("documentIdentification://cgm-document-id");
-
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("http://test-uri/F302", 1)).thenReturn("preSignedUrl");
-        Mockito.when(fileImporter.importRaoRequest(Mockito.any())).thenReturn(requestMessage);
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(getRaoRequestIndex(List.of("cgm-document-id")));
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(cgmFilePath, 1)).thenReturn("cgm-presigned-url");
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, false))
+                .isThrownBy(() -> handleTask(taskDto, false))
                 .withMessage("Some input files are missing, the task can't be launched");
         Mockito.verify(eventsLogger, Mockito.times(1)).error("Task can't be launched: No VIRTUALHUB file found in task 2024-06-18T09:30Z");
     }
@@ -174,9 +170,9 @@ class CoreCCAdapterServiceTest {
         final Setup testSetup = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, taskTimestamp, currentRunId);
         final TaskDto taskDto = testSetup.taskDto();
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.empty());
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
-        service.handleTask(taskDto, automaticLauch);
+        handleTask(taskDto, automaticLauch);
 
         final ArgumentCaptor<TaskStatusUpdate> captor = ArgumentCaptor.forClass(TaskStatusUpdate.class);
         Mockito.verifyNoInteractions(coreCCClient);
@@ -199,10 +195,10 @@ class CoreCCAdapterServiceTest {
         final TaskDto taskDto = testSetup.taskDto();
         final TaskDto updatedTaskDto = testSetup.updatedTaskDto();
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.of(updatedTaskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(false);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(updatedTaskDto)));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(false));
 
-        service.handleTask(taskDto, automaticLauch);
+        handleTask(taskDto, automaticLauch);
 
         final ArgumentCaptor<TaskStatusUpdate> captor = ArgumentCaptor.forClass(TaskStatusUpdate.class);
         Mockito.verifyNoInteractions(coreCCClient);
@@ -224,11 +220,11 @@ class CoreCCAdapterServiceTest {
         final Setup testSetup = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, taskTimestamp, currentRunId);
         final TaskDto taskDto = testSetup.taskDto();
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.of(taskDto)); // return the taskDto without RunHistory here
-        Mockito.when(taskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(true);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto))); // return the taskDto without RunHistory here
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
 
         Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
-                .isThrownBy(() -> service.handleTask(taskDto, automaticLauch));
+                .isThrownBy(() -> handleTask(taskDto, automaticLauch));
     }
 
     @Test
@@ -241,10 +237,10 @@ class CoreCCAdapterServiceTest {
         final TaskDto taskDto = testSetup.taskDto();
         final TaskDto updatedTaskDto = testSetup.updatedTaskDto();
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.of(updatedTaskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(true);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(updatedTaskDto)));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
 
-        service.handleTask(taskDto, automaticLauch);
+        handleTask(taskDto, automaticLauch);
 
         final ArgumentCaptor<CoreCCRequest> coreCCRequestArgumentCaptor = ArgumentCaptor.forClass(CoreCCRequest.class);
         Mockito.verify(coreCCClient, Mockito.timeout(100).times(1)).run(coreCCRequestArgumentCaptor.capture());
@@ -282,6 +278,74 @@ class CoreCCAdapterServiceTest {
                 .isNotNull()
                 .hasFieldOrPropertyWithValue("filename", "virtualhub.xml")
                 .hasFieldOrPropertyWithValue("url", "virtualhub-presigned-url");
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath(getFilePath(taskId, "RAOREQUEST"), 1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch.stage").tag("stage", "signing-urls").timer().count()).isPositive();
+    }
+
+    @Test
+    void launchGoesOnOnceTaskManagerAnswersTest() throws RaoRequestImportException {
+        final UUID taskId = UUID.randomUUID();
+        final Setup testSetup = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, OffsetDateTime.parse("2024-06-18T09:30Z"), UUID.randomUUID());
+        final CompletableFuture<Optional<TaskDto>> addingRun = new CompletableFuture<>();
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(addingRun);
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
+
+        final CompletableFuture<Void> handling = service.handleTask(testSetup.taskDto(), true);
+
+        // No thread waits for the task-manager in the meantime
+        Assertions.assertThat(handling).isNotDone();
+        Mockito.verify(asyncTaskManagerService, Mockito.never()).updateTaskStatus(Mockito.anyString(), Mockito.any());
+        addingRun.complete(Optional.of(testSetup.updatedTaskDto()));
+        handling.join();
+        Mockito.verify(coreCCClient, Mockito.timeout(1000).times(1)).run(Mockito.any(CoreCCRequest.class));
+    }
+
+    @Test
+    void launchPlanPreparedOnCreatedTaskIsUsedOnceReadyTest() throws RaoRequestImportException {
+        final UUID taskId = UUID.randomUUID();
+        final UUID currentRunId = UUID.randomUUID();
+        final OffsetDateTime taskTimestamp = OffsetDateTime.parse("2024-06-18T09:30Z");
+        final Setup testSetup = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, taskTimestamp, currentRunId);
+        final TaskDto readyTaskDto = testSetup.taskDto();
+        final TaskDto createdTaskDto = new TaskDto(taskId, taskTimestamp, TaskStatus.CREATED, readyTaskDto.getInputs(), readyTaskDto.getAvailableInputs(),
+                null, null, null, null);
+        // A file the RAOREQUEST file does not refer to is uploaded before the task becomes READY
+        final ProcessFileDto unusedProcessFile = new ProcessFileDto(getFilePath(taskId, "UNUSED_CBCORA"), "CBCORA", ProcessFileStatus.VALIDATED, "unused-cbcora.xml",
+                "unused-cbcora-document-id", OffsetDateTime.now());
+        final List<ProcessFileDto> availableInputs = new ArrayList<>(readyTaskDto.getAvailableInputs());
+        availableInputs.add(unusedProcessFile);
+        final TaskDto readyTaskDtoWithNewFile = new TaskDto(taskId, taskTimestamp, TaskStatus.READY, readyTaskDto.getInputs(), availableInputs,
+                null, null, null, null);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(testSetup.updatedTaskDto())));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
+        final double planHits = meterRegistry.get("core-cc-adapter.launch-plan.requests").tag("result", "hit").counter().count();
+
+        service.prepareLaunch(createdTaskDto);
+        handleTask(readyTaskDtoWithNewFile, true);
+
+        Mockito.verify(coreCCClient, Mockito.timeout(1000).times(1)).run(Mockito.any());
+        Mockito.verify(fileImporter, Mockito.times(1)).importRaoRequestIndex(Mockito.any());
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath(getFilePath(taskId, "RAOREQUEST"), 1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-plan.requests").tag("result", "hit").counter().count()).isEqualTo(planHits + 1);
+    }
+
+    @Test
+    void presignedUrlGenerationFailureTest() throws RaoRequestImportException {
+        final UUID taskId = UUID.randomUUID();
+        final UUID currentRunId = UUID.randomUUID();
+        final OffsetDateTime taskTimestamp = OffsetDateTime.parse("2024-06-18T09:30Z");
+        final Setup testSetup = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, taskTimestamp, currentRunId);
+        final TaskDto taskDto = testSetup.taskDto();
+
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(getFilePath(taskId, "RAOREQUEST"), 1)).thenThrow(new IllegalStateException("MinIO unreachable"));
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(testSetup.updatedTaskDto())));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
+
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> handleTask(taskDto, false))
+                .withMessage("Error occurred during generation of presigned URLs of input files")
+                .withCauseInstanceOf(IllegalStateException.class);
+        Mockito.verifyNoInteractions(coreCCClient);
     }
 
     @Test
@@ -294,10 +358,10 @@ class CoreCCAdapterServiceTest {
         final TaskDto taskDto = testSetup.taskDto();
         final TaskDto updatedTaskDto = testSetup.updatedTaskDto();
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.of(updatedTaskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(true);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(updatedTaskDto)));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
 
-        service.handleTask(taskDto, automaticLaunch);
+        handleTask(taskDto, automaticLaunch);
 
         final ArgumentCaptor<CoreCCRequest> coreCCRequestArgumentCaptor = ArgumentCaptor.forClass(CoreCCRequest.class);
         Mockito.verify(coreCCClient, Mockito.timeout(100).times(1)).run(coreCCRequestArgumentCaptor.capture());
@@ -350,10 +414,10 @@ class CoreCCAdapterServiceTest {
         final TaskDto updatedTaskDto = testSetup.updatedTaskDto();
         final List<TaskParameterDto> parameters = List.of(Mockito.mock(TaskParameterDto.class));
 
-        Mockito.when(taskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(Optional.of(updatedTaskDto));
-        Mockito.when(taskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(true);
+        Mockito.when(asyncTaskManagerService.addNewRunInTaskHistory(Mockito.anyString(), Mockito.anyList())).thenReturn(CompletableFuture.completedFuture(Optional.of(updatedTaskDto)));
+        Mockito.when(asyncTaskManagerService.updateTaskStatus(Mockito.anyString(), Mockito.eq(TaskStatus.PENDING))).thenReturn(CompletableFuture.completedFuture(true));
 
-        service.handleTask(taskDto, automaticLauch, parameters);
+        handleTask(taskDto, automaticLauch, parameters);
 
         final ArgumentCaptor<CoreCCRequest> coreCCRequestArgumentCaptor = ArgumentCaptor.forClass(CoreCCRequest.class);
         Mockito.verify(coreCCClient, Mockito.timeout(100).times(1)).run(coreCCRequestArgumentCaptor.capture());
@@ -363,18 +427,30 @@ class CoreCCAdapterServiceTest {
                 .containsExactlyElementsOf(parameters);
     }
 
+    private void handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically) {
+        handleTask(taskDto, isLaunchedAutomatically, null);
+    }
+
+    private void handleTask(final TaskDto taskDto, final boolean isLaunchedAutomatically, final List<TaskParameterDto> parameters) {
+        try {
+            service.handleTask(taskDto, isLaunchedAutomatically, parameters).join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
     private Setup getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(UUID taskId, OffsetDateTime taskTimestamp, UUID currentRunId) throws RaoRequestImportException {
-        final String raorequestFilePath = "http://test-uri/RAOREQUEST";
+        final String raorequestFilePath = getFilePath(taskId, "RAOREQUEST");
         final ProcessFileDto raoRequestProcessFile = new ProcessFileDto(raorequestFilePath, "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
-        final String cgmFilePath = "http://test-uri/CGM";
+        final String cgmFilePath = getFilePath(taskId, "CGM");
         final ProcessFileDto cgmProcessFile = new ProcessFileDto(cgmFilePath, "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.now());
-        final String glskFilePath = "http://test-uri/GLSK";
+        final String glskFilePath = getFilePath(taskId, "GLSK");
         final ProcessFileDto glskProcessFile = new ProcessFileDto(glskFilePath, "GLSK", ProcessFileStatus.VALIDATED, "glsk.xml", "glsk-document-id", OffsetDateTime.now());
-        final String cbcoraFilePath = "http://test-uri/CBCORA";
+        final String cbcoraFilePath = getFilePath(taskId, "CBCORA");
         final ProcessFileDto cbcoraProcessFile = new ProcessFileDto(cbcoraFilePath, "CBCORA", ProcessFileStatus.VALIDATED, "cbcora.xml", "cbcora-document-id", OffsetDateTime.now());
-        final String refprogFilePath = "http://test-uri/REFPROG";
+        final String refprogFilePath = getFilePath(taskId, "REFPROG");
         final ProcessFileDto refprogProcessFile = new ProcessFileDto(refprogFilePath, "REFPROG", ProcessFileStatus.VALIDATED, "refprog.xml", "refprog-document-id", OffsetDateTime.now());
-        final String virtualhubFilePath = "http://test-uri/VIRTUALHUB";
+        final String virtualhubFilePath = getFilePath(taskId, "VIRTUALHUB");
         final ProcessFileDto virtualhubProcessFile = new ProcessFileDto(virtualhubFilePath, "VIRTUALHUB", ProcessFileStatus.VALIDATED, "virtualhub.xml", "virtualhub-document-id", OffsetDateTime.now());
         final List<ProcessFileDto> inputs = List.of(raoRequestProcessFile, cgmProcessFile, glskProcessFile, cbcoraProcessFile, refprogProcessFile, virtualhubProcessFile);
         final List<ProcessFileDto> availableInputs = List.of(raoRequestProcessFile, cgmProcessFile, glskProcessFile, cbcoraProcessFile, refprogProcessFile, virtualhubProcessFile);
@@ -389,33 +465,9 @@ class CoreCCAdapterServiceTest {
                 inputs,
                 availableInputs,
                 null, null, runHistory, List.of());
-        final RequestMessage requestMessage = new RequestMessage();
-        final Payload payload = new Payload();
-        final RequestItems requestItems = new RequestItems();
-        final RequestItem requestItem = new RequestItem();
-        final Files files = new Files();
-        final File cgmFile = new File();
-        final File glskFile = new File();
-        final File cbcoraFile = new File();
-        final File refprogFile = new File();
-        final File virtualhubFile = new File();
-        requestMessage.setPayload(payload);
-        payload.setRequestItems(requestItems);
-        requestItem.setTimeInterval("2024-06-18T09:00Z/2024-06-18T10:00Z");
-        requestItem.setFiles(files);
-        requestItems.getRequestItem().add(requestItem);
-        cgmFile.setUrl("documentIdentification://cgm-document-id");
-        glskFile.setUrl("documentIdentification://glsk-document-id");
-        cbcoraFile.setUrl("documentIdentification://cbcora-document-id");
-        refprogFile.setUrl("documentIdentification://refprog-document-id");
-        virtualhubFile.setUrl("documentIdentification://virtualhub-document-id");
-        files.getFile().add(cgmFile);
-        files.getFile().add(glskFile);
-        files.getFile().add(cbcoraFile);
-        files.getFile().add(refprogFile);
-        files.getFile().add(virtualhubFile);
-
-        Mockito.when(fileImporter.importRaoRequest(Mockito.any())).thenReturn(requestMessage);
+        final List<String> documentIds = new ArrayList<>(List.of("cgm-document-id", "glsk-document-id", "cbcora-document-id", "refprog-document-id", "virtualhub-document-id"));
+
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(getRaoRequestIndex(documentIds));
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(raorequestFilePath, 1)).thenReturn("raorequest-presigned-url");
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(cgmFilePath, 1)).thenReturn("cgm-presigned-url");
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(glskFilePath, 1)).thenReturn("glsk-presigned-url");
@@ -423,12 +475,12 @@ class CoreCCAdapterServiceTest {
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(refprogFilePath, 1)).thenReturn("refprog-presigned-url");
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(virtualhubFilePath, 1)).thenReturn("virtualhub-presigned-url");
 
-        return new Setup(taskDto, updatedTaskDto, requestMessage);
+        return new Setup(taskDto, updatedTaskDto, documentIds);
     }
 
     private Setup getTaskDtoWithSingleVeresionOfEachFile(UUID taskId, OffsetDateTime taskTimestamp, UUID currentRunId) throws RaoRequestImportException {
         final Setup setupWithoutDcCgm = getTaskDtoWithSingleVeresionOfEachFileExceptDcCgm(taskId, taskTimestamp, currentRunId);
-        final String dccgmFilePath = "http://test-uri/DCCGM";
+        final String dccgmFilePath = getFilePath(taskId, "DCCGM");
         final ProcessFileDto dccgmProcessFile = new ProcessFileDto(dccgmFilePath, "DCCGM", ProcessFileStatus.VALIDATED, "dccgm.zip", "dccgm-document-id", OffsetDateTime.now());
         final TaskDto taskDtoWithoutDcCgm = setupWithoutDcCgm.taskDto();
         final TaskDto updatedTaskDtoWithoutDcCgm = setupWithoutDcCgm.updatedTaskDto();
@@ -450,14 +502,27 @@ class CoreCCAdapterServiceTest {
                 runHistory,
                 updatedTaskDtoWithoutDcCgm.getParameters());
 
-        final File dccgmFile = new File();
-        dccgmFile.setUrl("documentIdentification://dccgm-document-id");
-        setupWithoutDcCgm.requestMessage().getPayload().getRequestItems().getRequestItem().get(0).getFiles().getFile().add(dccgmFile);
+        setupWithoutDcCgm.documentIds().add("dccgm-document-id");
+        Mockito.when(fileImporter.importRaoRequestIndex(Mockito.any())).thenReturn(getRaoRequestIndex(setupWithoutDcCgm.documentIds()));
 
         Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath(dccgmFilePath, 1)).thenReturn("dccgm-presigned-url");
 
-        return new Setup(taskDto, updatedTaskDto, setupWithoutDcCgm.requestMessage());
+        return new Setup(taskDto, updatedTaskDto, setupWithoutDcCgm.documentIds());
+    }
+
+    /**
+     * Files are named after their task: signings left running in the background by a test cannot be mistaken for those of another test.
+     */
+    private static String getFilePath(final UUID taskId, final String fileName) {
+        return "http://test-uri/" + taskId + "/" + fileName;
     }
 
-    private record Setup(TaskDto taskDto, TaskDto updatedTaskDto, RequestMessage requestMessage) { }
+    private static RaoRequestIndex getRaoRequestIndex(final List<String> documentIds) throws RaoRequestImportException {
+        return RaoRequestIndex.builder()
+                .add("2024-06-18T09:00Z/2024-06-18T10:00Z", documentIds)
+                .build();
+    }
+
+    private record Setup(TaskDto taskDto, TaskDto updatedTaskDto, List<String> documentIds) { }
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.DispatchConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCRequest;
+import com.farao_community.farao.gridcapa_core_cc.starter.CoreCCClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CoreCCDispatcherTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+
+    private CoreCCClient coreCCClient;
+    private StreamBridge streamBridge;
+    private MeterRegistry meterRegistry;
+    private CoreCCDispatcher dispatcher;
+
+    @BeforeEach
+    void init() {
+        coreCCClient = Mockito.mock(CoreCCClient.class);
+        streamBridge = Mockito.mock(StreamBridge.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private CoreCCDispatcher getDispatcher(final DispatchConfiguration.ThreadPolicy threadPolicy, final DispatchConfiguration.RejectionPolicy rejectionPolicy) {
+        return new CoreCCDispatcher(coreCCClient, streamBridge, Mockito.mock(Logger.class), new DispatchConfiguration(threadPolicy, 1, 1, rejectionPolicy), meterRegistry);
+    }
+
+    @Test
+    void dispatchSendsRequestOnVirtualThreadTest() {
+        dispatcher = getDispatcher(DispatchConfiguration.ThreadPolicy.VIRTUAL, DispatchConfiguration.RejectionPolicy.FAIL);
+        final CoreCCRequest request = getRequest();
+        final boolean[] virtual = new boolean[1];
+        Mockito.doAnswer(invocation -> {
+            virtual[0] = Thread.currentThread().isVirtual();
+            return null;
+        }).when(coreCCClient).run(request);
+
+        dispatch(request).join();
+
+        Assertions.assertThat(virtual[0]).isTrue();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.dispatch.latency").timer().count()).isEqualTo(1);
+        Mockito.verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void failedDispatchSetsTaskInErrorTest() {
+        dispatcher = getDispatcher(DispatchConfiguration.ThreadPolicy.PLATFORM, DispatchConfiguration.RejectionPolicy.FAIL);
+        final CoreCCRequest request = getRequest();
+        Mockito.doThrow(new IllegalStateException("Broker unreachable")).when(coreCCClient).run(request);
+
+        final CompletableFuture<Void> dispatch = dispatch(request);
+
+        Assertions.assertThatExceptionOfType(CompletionException.class).isThrownBy(dispatch::join);
+        verifyTaskSetInError();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.dispatch.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void requestBuildingFailureSetsTaskInErrorTest() {
+        dispatcher = getDispatcher(DispatchConfiguration.ThreadPolicy.PLATFORM, DispatchConfiguration.RejectionPolicy.FAIL);
+
+        final CompletableFuture<Void> dispatch = dispatcher.dispatch(TASK_ID, OffsetDateTime.parse("2024-06-18T08:30Z"), () -> {
+            throw new IllegalStateException("MinIO unreachable");
+        });
+
+        Assertions.assertThatExceptionOfType(CompletionException.class).isThrownBy(dispatch::join);
+        verifyTaskSetInError();
+        Mockito.verifyNoInteractions(coreCCClient);
+    }
+
+    @Test
+    void dispatchIsRejectedWhenQueueIsFullTest() throws InterruptedException {
+        dispatcher = getDispatcher(DispatchConfiguration.ThreadPolicy.PLATFORM, DispatchConfiguration.RejectionPolicy.FAIL);
+        final CountDownLatch release = blockCoreCCClient();
+        final CoreCCRequest request = getRequest();
+        dispatch(request);
+
+        Assertions.assertThatExceptionOfType(LaunchRejectedException.class)
+                .isThrownBy(() -> dispatch(request))
+                .withMessage("Dispatch queue is full, request not sent to the core-cc runner");
+        release.countDown();
+        verifyTaskSetInError();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.dispatch.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void callerSendsRequestWhenQueueIsFullTest() throws InterruptedException {
+        dispatcher = getDispatcher(DispatchConfiguration.ThreadPolicy.PLATFORM, DispatchConfiguration.RejectionPolicy.CALLER_RUNS);
+        final CountDownLatch release = blockCoreCCClient();
+        final Thread callerThread = Thread.currentThread();
+        final CoreCCRequest request = getRequest();
+        final boolean[] sentByCaller = new boolean[1];
+        Mockito.doAnswer(invocation -> {
+            sentByCaller[0] = Thread.currentThread() == callerThread;
+            return null;
+        }).when(coreCCClient).run(request);
+        dispatch(getRequest());
+
+        dispatch(request).join();
+
+        Assertions.assertThat(sentByCaller[0]).isTrue();
+        release.countDown();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.dispatch.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private CompletableFuture<Void> dispatch(final CoreCCRequest request) {
+        return dispatcher.dispatch(TASK_ID, request.getTimestamp(), () -> request);
+    }
+
+    private CountDownLatch blockCoreCCClient() throws InterruptedException {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(coreCCClient).run(Mockito.any());
+        dispatch(getRequest());
+        Assertions.assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    private void verifyTaskSetInError() {
+        final ArgumentCaptor<TaskStatusUpdate> captor = ArgumentCaptor.forClass(TaskStatusUpdate.class);
+        Mockito.verify(streamBridge, Mockito.timeout(5000)).send(Mockito.eq("task-status-update"), captor.capture());
+        Assertions.assertThat(captor.getValue().getId()).isEqualTo(TASK_ID);
+        Assertions.assertThat(captor.getValue().getTaskStatus()).isEqualTo(TaskStatus.ERROR);
+    }
+
+    private static CoreCCRequest getRequest() {
+        return new CoreCCRequest(TASK_ID.toString(), UUID.randomUUID().toString(), OffsetDateTime.parse("2024-06-18T08:30Z"),
+                null, null, null, null, null, null, null, true, List.of());
+    }
+}
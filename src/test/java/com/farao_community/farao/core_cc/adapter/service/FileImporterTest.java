@@ -6,37 +6,108 @@
  */
 package com.farao_community.farao.core_cc.adapter.service;
 
+import com.farao_community.farao.core_cc.adapter.configuration.RaoRequestConfiguration;
 import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
-import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 class FileImporterTest {
+    private static final ProcessFileDto RAOREQUEST_PROCESS_FILE = new ProcessFileDto("path/raorequest.xml", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
+
     private UrlValidationService urlValidationService;
+    private MinioAdapter minioAdapter;
+    private MeterRegistry meterRegistry;
     private FileImporter fileImporter;
 
     @BeforeEach
     void init() {
         urlValidationService = Mockito.mock(UrlValidationService.class);
-        fileImporter = new FileImporter(urlValidationService);
+        minioAdapter = Mockito.mock(MinioAdapter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        fileImporter = getFileImporter(true);
+    }
+
+    private FileImporter getFileImporter(final boolean minioDirectRead) {
+        final RaoRequestConfiguration configuration = new RaoRequestConfiguration(0, minioDirectRead, Duration.ofMinutes(5));
+        return new FileImporter(urlValidationService, new RaoRequestReader(), minioAdapter, configuration, meterRegistry);
+    }
+
+    @Test
+    void importDocumentIdsFromRaoRequestTest() throws RaoRequestImportException {
+        Mockito.when(minioAdapter.getFileFromFullPath("path/raorequest.xml"))
+                .thenReturn(getClass().getResourceAsStream("/raorequest/raorequest.xml"));
+
+        Assertions.assertThat(fileImporter.importDocumentIdsFromRaoRequest(RAOREQUEST_PROCESS_FILE, Instant.parse("2024-06-18T11:00:00Z")))
+                .contains(List.of("cgm-document-id-11", "glsk-document-id", "cbcora-document-id", "refprog-document-id"));
+    }
+
+    @Test
+    void importRaoRequestIndexTest() throws RaoRequestImportException {
+        Mockito.when(minioAdapter.getFileFromFullPath("path/raorequest.xml"))
+                .thenReturn(getClass().getResourceAsStream("/raorequest/raorequest.xml"));
+
+        final RaoRequestIndex index = fileImporter.importRaoRequestIndex(RAOREQUEST_PROCESS_FILE);
+
+        Assertions.assertThat(index.size()).isEqualTo(4);
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T08:00:00Z")))
+                .contains(List.of("cgm-document-id-08", "glsk-document-id", "cbcora-document-id", "refprog-document-id"));
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.raorequest.reads").tag("source", "minio").counter().count()).isEqualTo(1);
+        Mockito.verifyNoInteractions(urlValidationService);
+    }
+
+    @Test
+    void importRaoRequestIndexFallsBackToPresignedUrlTest() throws RaoRequestImportException {
+        Mockito.when(minioAdapter.getFileFromFullPath("path/raorequest.xml"))
+                .thenThrow(new RuntimeException("Exception occurred while downloading file: path/raorequest.xml, from minio server"));
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/raorequest.xml", 1)).thenReturn("raorequest-url");
+        Mockito.when(urlValidationService.openUrlStream("raorequest-url"))
+                .thenReturn(getClass().getResourceAsStream("/raorequest/raorequest.xml"));
+
+        final RaoRequestIndex index = fileImporter.importRaoRequestIndex(RAOREQUEST_PROCESS_FILE);
+
+        Assertions.assertThat(index.size()).isEqualTo(4);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.raorequest.reads").tag("source", "presigned-url").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void importRaoRequestIndexWithoutDirectReadTest() throws RaoRequestImportException {
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/raorequest.xml", 1)).thenReturn("raorequest-url");
+        Mockito.when(urlValidationService.openUrlStream("raorequest-url"))
+                .thenReturn(getClass().getResourceAsStream("/raorequest/raorequest.xml"));
+
+        final RaoRequestIndex index = getFileImporter(false).importRaoRequestIndex(RAOREQUEST_PROCESS_FILE);
+
+        Assertions.assertThat(index.size()).isEqualTo(4);
+        Mockito.verify(minioAdapter, Mockito.never()).getFileFromFullPath(Mockito.anyString());
     }
 
     @Test
-    void jaxbExceptionTest() {
-        Mockito.when(urlValidationService.openUrlStream(Mockito.anyString()))
-                .thenReturn(null);
+    void xmlStreamExceptionTest() {
+        Mockito.when(minioAdapter.getFileFromFullPath(Mockito.anyString()))
+                .thenReturn(new ByteArrayInputStream("not xml".getBytes(StandardCharsets.UTF_8)));
 
-        final CoreCCFileResource raoRequestFileResource = new CoreCCFileResource("filename", "invalid-url");
+        final Instant timestamp = Instant.parse("2024-06-18T11:00:00Z");
         Assertions.assertThatExceptionOfType(RaoRequestImportException.class)
-                .isThrownBy(() -> fileImporter.importRaoRequest(raoRequestFileResource))
-                .withCauseInstanceOf(JAXBException.class)
-                .withMessage("Error occurred when converting InputStream to object of type RequestMessage");
+                .isThrownBy(() -> fileImporter.importDocumentIdsFromRaoRequest(RAOREQUEST_PROCESS_FILE, timestamp))
+                .withCauseInstanceOf(XMLStreamException.class)
+                .withMessage("Error occurred when reading document IDs from RAOREQUEST file");
     }
 }
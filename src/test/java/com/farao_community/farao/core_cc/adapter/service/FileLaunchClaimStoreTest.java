@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FileLaunchClaimStoreTest {
+    private static final String TIMESTAMP = "2024-09-18T09:30Z";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void timestampCannotBeClaimedByTwoInstances() {
+        final FileLaunchClaimStore instance1 = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+        final FileLaunchClaimStore instance2 = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+
+        Assertions.assertThat(instance1.tryClaim(TIMESTAMP, "launch-1")).isTrue();
+        Assertions.assertThat(instance2.tryClaim("2024-09-18T11:30+02:00", "launch-2")).isFalse();
+        Assertions.assertThat(instance2.tryClaim("2024-09-18T10:30Z", "launch-2")).isTrue();
+    }
+
+    @Test
+    void claimCanOnlyBeReleasedByItsClaimant() {
+        final FileLaunchClaimStore instance1 = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+        final FileLaunchClaimStore instance2 = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+        instance1.tryClaim(TIMESTAMP, "launch-1");
+
+        instance2.release(TIMESTAMP, "launch-2");
+        Assertions.assertThat(instance2.tryClaim(TIMESTAMP, "launch-2")).isFalse();
+
+        instance1.release(TIMESTAMP, "launch-1");
+        Assertions.assertThat(instance2.tryClaim(TIMESTAMP, "launch-2")).isTrue();
+    }
+
+    @Test
+    void expiredClaimCanBeTakenOver() {
+        final FileLaunchClaimStore instance1 = new FileLaunchClaimStore(directory, Duration.ZERO);
+        final FileLaunchClaimStore instance2 = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+        instance1.tryClaim(TIMESTAMP, "launch-1");
+
+        Assertions.assertThat(instance2.tryClaim(TIMESTAMP, "launch-2")).isTrue();
+    }
+
+    @Test
+    void corruptedClaimCanBeTakenOver() throws IOException {
+        final FileLaunchClaimStore store = new FileLaunchClaimStore(directory, Duration.ofMinutes(10));
+        Files.writeString(directory.resolve("2024-09-18T09_30_00Z.claim"), "corrupted");
+
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-1")).isTrue();
+    }
+
+    @Test
+    void concurrentClaimsOnlySucceedOnce() throws Exception {
+        final List<FileLaunchClaimStore> instances = IntStream.range(0, 4)
+                .mapToObj(i -> new FileLaunchClaimStore(directory, Duration.ofMinutes(10)))
+                .toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Boolean>> claims = IntStream.range(0, 16)
+                    .<Callable<Boolean>>mapToObj(i -> () -> instances.get(i % instances.size()).tryClaim(TIMESTAMP, "launch-" + i))
+                    .toList();
+            long successfulClaims = 0;
+            for (Future<Boolean> claim : executor.invokeAll(claims)) {
+                if (Boolean.TRUE.equals(claim.get())) {
+                    successfulClaims++;
+                }
+            }
+
+            Assertions.assertThat(successfulClaims).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
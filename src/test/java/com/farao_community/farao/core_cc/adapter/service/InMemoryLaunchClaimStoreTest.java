@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class InMemoryLaunchClaimStoreTest {
+    private static final String TIMESTAMP = "2024-09-18T09:30Z";
+
+    @Test
+    void timestampCannotBeClaimedTwiceUntilReleased() {
+        final InMemoryLaunchClaimStore store = new InMemoryLaunchClaimStore(Duration.ofMinutes(10));
+
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-1")).isTrue();
+        Assertions.assertThat(store.tryClaim("2024-09-18T11:30+02:00", "launch-2")).isFalse();
+
+        store.release(TIMESTAMP, "launch-1");
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-2")).isTrue();
+    }
+
+    @Test
+    void claimCanOnlyBeReleasedByItsClaimant() {
+        final InMemoryLaunchClaimStore store = new InMemoryLaunchClaimStore(Duration.ofMinutes(10));
+        store.tryClaim(TIMESTAMP, "launch-1");
+
+        store.release(TIMESTAMP, "launch-2");
+
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-2")).isFalse();
+    }
+
+    @Test
+    void expiredClaimCanBeTakenOver() {
+        final InMemoryLaunchClaimStore store = new InMemoryLaunchClaimStore(Duration.ZERO);
+
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-1")).isTrue();
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-2")).isTrue();
+    }
+
+    @Test
+    void releasingAnExpiredClaimKeepsTheClaimThatTookItOver() throws InterruptedException {
+        final InMemoryLaunchClaimStore store = new InMemoryLaunchClaimStore(Duration.ofMillis(500));
+        store.tryClaim(TIMESTAMP, "launch-1");
+        Thread.sleep(600);
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-2")).isTrue();
+
+        store.release(TIMESTAMP, "launch-1");
+
+        Assertions.assertThat(store.tryClaim(TIMESTAMP, "launch-3")).isFalse();
+    }
+}
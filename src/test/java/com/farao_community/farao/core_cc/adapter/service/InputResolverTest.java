@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class InputResolverTest {
+    private static final ProcessFileDto CGM = getProcessFile("CGM", "cgm.zip", "cgm-document-id");
+    private static final ProcessFileDto GLSK = getProcessFile("GLSK", "glsk.xml", "glsk-document-id");
+    private static final ProcessFileDto OTHER_GLSK = getProcessFile("GLSK", "glsk-2.xml", "glsk-document-id");
+    private static final ProcessFileDto RAOREQUEST = getProcessFile("RAOREQUEST", "raorequest.xml", null);
+
+    @Test
+    void allDocumentsResolvedInRequestedOrderTest() {
+        final InputResolver.Resolution resolution = InputResolver.resolve(List.of(RAOREQUEST, GLSK, CGM), List.of("cgm-document-id", "glsk-document-id"));
+
+        Assertions.assertThat(resolution.resolvedFiles()).containsExactly(CGM, GLSK);
+        Assertions.assertThat(resolution.missingDocumentIds()).isEmpty();
+        Assertions.assertThat(resolution.duplicateDocuments()).isEmpty();
+    }
+
+    @Test
+    void allMissingDocumentsReportedTest() {
+        final InputResolver.Resolution resolution = InputResolver.resolve(List.of(RAOREQUEST, GLSK),
+                List.of("cgm-document-id", "glsk-document-id", "cbcora-document-id"));
+
+        Assertions.assertThat(resolution.resolvedFiles()).containsExactly(GLSK);
+        Assertions.assertThat(resolution.missingDocumentIds()).containsExactly("cgm-document-id", "cbcora-document-id");
+    }
+
+    @Test
+    void duplicateDocumentsReportedTest() {
+        final InputResolver.Resolution resolution = InputResolver.resolve(List.of(GLSK, OTHER_GLSK, CGM), List.of("cgm-document-id", "glsk-document-id"));
+
+        Assertions.assertThat(resolution.resolvedFiles()).containsExactly(CGM, GLSK);
+        Assertions.assertThat(resolution.duplicateDocuments()).containsOnlyKeys("glsk-document-id");
+        Assertions.assertThat(resolution.duplicateDocuments().get("glsk-document-id")).containsExactly(GLSK, OTHER_GLSK);
+    }
+
+    private static ProcessFileDto getProcessFile(final String fileType, final String filename, final String documentId) {
+        return new ProcessFileDto("path/" + filename, fileType, ProcessFileStatus.VALIDATED, filename, documentId, OffsetDateTime.now());
+    }
+}
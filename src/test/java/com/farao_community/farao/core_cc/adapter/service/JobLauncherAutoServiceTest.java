@@ -6,13 +6,23 @@
  */
 package com.farao_community.farao.core_cc.adapter.service;
 
+import com.farao_community.farao.core_cc.adapter.configuration.AutoLaunchConfiguration;
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.PartitionConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.RunHistoryConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.TaskViewConfiguration;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
@@ -22,10 +32,14 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.messaging.support.MessageBuilder;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,12 +54,119 @@ class JobLauncherAutoServiceTest {
     private StreamBridge streamBridge;
     @Autowired
     private JobLauncherAutoService jobLauncherAutoService;
+    @Autowired
+    private RecentTaskView recentTaskView;
+    @Autowired
+    private LaunchClaimStore launchClaimStore;
 
     @MockitoBean
     private CoreCCAdapterConfiguration coreCCAdapterConfiguration;
     @MockitoBean
     private CoreCCAdapterService adapterService;
 
+    @BeforeEach
+    void init() {
+        Mockito.when(adapterService.handleTask(Mockito.any(), Mockito.anyBoolean())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void runReadyTasksUpdatesRecentTaskView() {
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-18T09:30Z"), TaskStatus.CREATED, null, null, null, null, null, null);
+
+        jobLauncherAutoService.runReadyTasks(taskDto);
+
+        Assertions.assertThat(recentTaskView.get("2024-09-18T09:30Z")).containsSame(taskDto);
+    }
+
+    @Test
+    void submitTaskUpdateRunsReadyTasksAsynchronously() {
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-18T10:30Z"), TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of());
+
+        jobLauncherAutoService.submitTaskUpdate(taskDto);
+
+        Mockito.verify(adapterService, Mockito.timeout(5000)).handleTask(taskDto, true);
+    }
+
+    @Test
+    void submitTaskUpdateSkipsTimestampClaimedByAnotherInstance() {
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-18T13:30Z"), TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of());
+        launchClaimStore.tryClaim("2024-09-18T13:30Z", "launch-of-another-instance");
+
+        jobLauncherAutoService.submitTaskUpdate(taskDto);
+
+        Mockito.verify(adapterService, Mockito.after(500).never()).handleTask(taskDto, true);
+        launchClaimStore.release("2024-09-18T13:30Z", "launch-of-another-instance");
+    }
+
+    @Test
+    void submitTaskUpdatesHandlesLatestUpdateOfEachTimestamp() {
+        final OffsetDateTime timestamp1 = OffsetDateTime.parse("2024-09-18T11:30Z");
+        final OffsetDateTime timestamp2 = OffsetDateTime.parse("2024-09-18T12:30Z");
+        final TaskDto outdatedTaskDto = new TaskDto(UUID.randomUUID(), timestamp1, TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        final TaskDto latestTaskDto = new TaskDto(UUID.randomUUID(), timestamp1, TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        final TaskDto otherTaskDto = new TaskDto(UUID.randomUUID(), timestamp2, TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of());
+
+        jobLauncherAutoService.submitTaskUpdates(List.of(outdatedTaskDto, otherTaskDto, latestTaskDto));
+
+        Mockito.verify(adapterService, Mockito.timeout(5000)).handleTask(latestTaskDto, true);
+        Mockito.verify(adapterService, Mockito.timeout(5000)).handleTask(otherTaskDto, true);
+        Mockito.verify(adapterService, Mockito.never()).handleTask(outdatedTaskDto, true);
+    }
+
+    @Test
+    void updateOfTimestampOwnedByStoppedInstanceIsTakenOver(@TempDir final Path directory) {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final PartitionConfiguration partitionConfiguration = new PartitionConfiguration(true, directory, Duration.ofHours(1), Duration.ofMinutes(1));
+        final PartitionOwnership partitionOwnership = new PartitionOwnership(partitionConfiguration, meterRegistry);
+        final PartitionOwnership otherInstancePartitionOwnership = new PartitionOwnership(partitionConfiguration, new SimpleMeterRegistry());
+        partitionOwnership.heartbeat();
+        final OffsetDateTime timestamp = Stream.iterate(OffsetDateTime.parse("2024-09-18T00:30Z"), t -> t.plusHours(1))
+                .filter(t -> !partitionOwnership.owns(t.toInstant()))
+                .findFirst()
+                .orElseThrow();
+        final JobLauncherAutoService partitionedService = new JobLauncherAutoService(coreCCAdapterConfiguration, adapterService,
+                new RecentTaskView(new TaskViewConfiguration(200, Duration.ofSeconds(30)), meterRegistry),
+                new RunHistoryIndex(new RunHistoryConfiguration(200), meterRegistry),
+                new LaunchRegistry(new InMemoryLaunchClaimStore(Duration.ofMinutes(10)), meterRegistry),
+                partitionOwnership,
+                new LaunchScheduler(new LaunchSchedulerConfiguration(4, 100), meterRegistry),
+                new AutoLaunchConfiguration(4, 1000, Duration.ZERO),
+                meterRegistry);
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), timestamp, TaskStatus.READY, List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of());
+        try {
+            partitionedService.submitTaskUpdate(taskDto);
+            Mockito.verify(adapterService, Mockito.after(200).never()).handleTask(taskDto, true);
+
+            otherInstancePartitionOwnership.shutdown();
+            partitionOwnership.heartbeat();
+
+            Mockito.verify(adapterService, Mockito.timeout(5000)).handleTask(taskDto, true);
+            Assertions.assertThat(meterRegistry.get("core-cc-adapter.auto-launch.taken-over").counter().count()).isEqualTo(1);
+        } finally {
+            partitionedService.shutdown();
+            partitionOwnership.shutdown();
+        }
+    }
+
+    @Test
+    void runReadyTasksPreparesLaunchOfCreatedTaskWithRaoRequest() {
+        final ProcessFileDto raoRequestFile = new ProcessFileDto("path/raorequest.xml", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.now());
+        final ProcessFileDto cgmFile = new ProcessFileDto("path/cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.now());
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-18T13:30Z"), TaskStatus.CREATED, List.of(raoRequestFile, cgmFile), List.of(raoRequestFile, cgmFile), List.of(), List.of(), List.of(), List.of());
+        final TaskDto taskDtoWithoutRaoRequest = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse("2024-09-18T14:30Z"), TaskStatus.CREATED, List.of(cgmFile), List.of(cgmFile), List.of(), List.of(), List.of(), List.of());
+
+        jobLauncherAutoService.runReadyTasks(taskDto);
+        jobLauncherAutoService.runReadyTasks(taskDtoWithoutRaoRequest);
+
+        Mockito.verify(adapterService).prepareLaunch(taskDto);
+        Mockito.verify(adapterService, Mockito.never()).prepareLaunch(taskDtoWithoutRaoRequest);
+        Mockito.verify(adapterService, Mockito.never()).handleTask(Mockito.any(), Mockito.anyBoolean());
+    }
+
     @Test
     void runReadyTasksWithNullPointerException() {
         jobLauncherAutoService.runReadyTasks(null);
@@ -93,7 +214,7 @@ class JobLauncherAutoServiceTest {
                 List.of());
         Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of("RAOREQUEST", "CRAC"));
 
-        jobLauncherAutoService.runReadyTasks(taskDto);
+        jobLauncherAutoService.runReadyTasks(taskDto).join();
 
         Mockito.verifyNoInteractions(adapterService);
     }
@@ -127,7 +248,7 @@ class JobLauncherAutoServiceTest {
                 List.of());
         Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of("RAOREQUEST", "CRAC"));
 
-        jobLauncherAutoService.runReadyTasks(taskDto);
+        jobLauncherAutoService.runReadyTasks(taskDto).join();
 
         Mockito.verify(adapterService, Mockito.times(1)).handleTask(taskDto, true);
     }
@@ -162,7 +283,7 @@ class JobLauncherAutoServiceTest {
                 List.of());
         Mockito.when(coreCCAdapterConfiguration.autoTriggerFiletypes()).thenReturn(List.of());
 
-        jobLauncherAutoService.runReadyTasks(taskDto);
+        jobLauncherAutoService.runReadyTasks(taskDto).join();
 
         Mockito.verify(adapterService, Mockito.times(1)).handleTask(taskDto, true);
     }
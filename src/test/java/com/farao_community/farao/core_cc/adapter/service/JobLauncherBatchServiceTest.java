@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.BatchLaunchConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.ProcessConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class JobLauncherBatchServiceTest {
+    private JobLauncherManualService jobLauncherManualService;
+    private JobLauncherBatchService service;
+
+    @BeforeEach
+    void init() {
+        jobLauncherManualService = Mockito.mock(JobLauncherManualService.class);
+        Mockito.when(jobLauncherManualService.tryLaunchJobInBatch(Mockito.anyString(), Mockito.anyList(), Mockito.any())).thenReturn(JobLaunchOutcome.Status.LAUNCHED);
+        service = new JobLauncherBatchService(jobLauncherManualService,
+                new ProcessConfiguration(ZoneId.of("CET")),
+                new BatchLaunchConfiguration(4, Duration.ofMinutes(30), 48));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void launchBusinessDayLaunchesEveryHour() {
+        final List<JobLaunchOutcome> outcomes = service.launchBusinessDay(LocalDate.parse("2024-06-18"), List.of()).join();
+
+        Assertions.assertThat(outcomes)
+                .hasSize(24)
+                .allMatch(outcome -> outcome.status() == JobLaunchOutcome.Status.LAUNCHED);
+        Assertions.assertThat(outcomes.getFirst().timestamp()).isEqualTo("2024-06-17T22:30Z");
+        Assertions.assertThat(outcomes.getLast().timestamp()).isEqualTo("2024-06-18T21:30Z");
+        final ArgumentCaptor<RaoRequestIndexes> raoRequestIndexesCaptor = ArgumentCaptor.forClass(RaoRequestIndexes.class);
+        Mockito.verify(jobLauncherManualService, Mockito.times(24)).tryLaunchJobInBatch(Mockito.anyString(), Mockito.eq(List.of()), raoRequestIndexesCaptor.capture());
+        Assertions.assertThat(raoRequestIndexesCaptor.getAllValues()).containsOnly(raoRequestIndexesCaptor.getValue());
+    }
+
+    @Test
+    void launchAfterShutdownIsRejected() {
+        service.shutdown();
+        final LocalDate businessDate = LocalDate.parse("2024-06-18");
+        final List<TaskParameterDto> parameters = List.of();
+
+        Assertions.assertThatExceptionOfType(LaunchRejectedException.class)
+                .isThrownBy(() -> service.launchBusinessDay(businessDate, parameters));
+        Mockito.verifyNoInteractions(jobLauncherManualService);
+    }
+
+    @Test
+    void launchBusinessDayHandlesDaylightSavingTime() {
+        Assertions.assertThat(service.launchBusinessDay(LocalDate.parse("2024-03-31"), List.of()).join()).hasSize(23);
+        Assertions.assertThat(service.launchBusinessDay(LocalDate.parse("2024-10-27"), List.of()).join()).hasSize(25);
+    }
+
+    @Test
+    void launchTimestampRangeReportsOutcomePerTimestamp() {
+        final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
+        Mockito.when(jobLauncherManualService.tryLaunchJobInBatch(Mockito.eq("2024-06-18T09:30Z"), Mockito.eq(parameters), Mockito.any())).thenReturn(JobLaunchOutcome.Status.NOT_READY);
+        Mockito.when(jobLauncherManualService.tryLaunchJobInBatch(Mockito.eq("2024-06-18T10:30Z"), Mockito.eq(parameters), Mockito.any())).thenThrow(new CoreCCAdapterException("Some input files are missing, the task can't be launched"));
+
+        final List<JobLaunchOutcome> outcomes = service.launchTimestampRange(OffsetDateTime.parse("2024-06-18T08:30Z"), OffsetDateTime.parse("2024-06-18T11:30Z"), parameters).join();
+
+        Assertions.assertThat(outcomes).containsExactly(
+                new JobLaunchOutcome("2024-06-18T08:30Z", JobLaunchOutcome.Status.LAUNCHED, null),
+                new JobLaunchOutcome("2024-06-18T09:30Z", JobLaunchOutcome.Status.NOT_READY, null),
+                new JobLaunchOutcome("2024-06-18T10:30Z", JobLaunchOutcome.Status.FAILED, "Some input files are missing, the task can't be launched"),
+                new JobLaunchOutcome("2024-06-18T11:30Z", JobLaunchOutcome.Status.LAUNCHED, null));
+    }
+
+    @Test
+    void launchInvalidTimestampRangeThrowsException() {
+        final OffsetDateTime from = OffsetDateTime.parse("2024-06-18T08:30Z");
+        final OffsetDateTime to = OffsetDateTime.parse("2024-06-18T07:30Z");
+        final List<TaskParameterDto> parameters = List.of();
+
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> service.launchTimestampRange(from, to, parameters))
+                .withMessage("Invalid timestamp range: 2024-06-18T07:30Z is before 2024-06-18T08:30Z");
+        Mockito.verifyNoInteractions(jobLauncherManualService);
+    }
+
+    @Test
+    void launchTooLongTimestampRangeThrowsException() {
+        final OffsetDateTime from = OffsetDateTime.parse("2024-06-18T08:30Z");
+        final OffsetDateTime to = OffsetDateTime.parse("2024-06-20T08:30Z");
+        final List<TaskParameterDto> parameters = List.of();
+
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> service.launchTimestampRange(from, to, parameters))
+                .withMessage("Batch launch is limited to 48 timestamps");
+        Mockito.verifyNoInteractions(jobLauncherManualService);
+    }
+}
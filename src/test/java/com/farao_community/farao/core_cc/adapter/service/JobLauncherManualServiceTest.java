@@ -6,28 +6,34 @@
  */
 package com.farao_community.farao.core_cc.adapter.service;
 
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.AdditionalAnswers;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -40,28 +46,164 @@ class JobLauncherManualServiceTest {
     @Mock
     private Logger eventsLogger;
     @Mock
-    private TaskManagerService taskManagerService;
+    private AsyncTaskManagerService asyncTaskManagerService;
+    @Mock
+    private RecentTaskView recentTaskView;
+    private final LaunchClaimStore launchClaimStore = new InMemoryLaunchClaimStore(Duration.ofMinutes(10));
+    private final LaunchRegistry launchRegistry = new LaunchRegistry(launchClaimStore, new SimpleMeterRegistry());
+    private final LaunchScheduler launchScheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 1), new SimpleMeterRegistry());
 
-    @InjectMocks
     private JobLauncherManualService service;
 
+    @BeforeEach
+    void init() {
+        service = new JobLauncherManualService(adapterService, eventsLogger, asyncTaskManagerService, recentTaskView, launchRegistry, launchScheduler);
+        Mockito.lenient().when(adapterService.handleTask(Mockito.any(), Mockito.anyBoolean(), Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        launchScheduler.shutdown();
+    }
+
     @Test
     void launchJobWithNoTaskDtoTest() {
         final String timestamp = "2024-09-18T09:30Z";
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.empty());
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
         service.launchJob(timestamp, List.of());
 
         Mockito.verifyNoInteractions(adapterService);
     }
 
+    @Test
+    void launchJobWithRecentTaskDtoTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto currentTaskDto = new TaskDto(taskDto.getId(), OffsetDateTime.parse(timestamp), TaskStatus.SUCCESS, null, null, null, null, null, null);
+        Mockito.when(recentTaskView.get(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(currentTaskDto)));
+
+        service.launchJob(timestamp, List.of());
+
+        Mockito.verify(asyncTaskManagerService, Mockito.times(1)).getTaskFromTimestamp(timestamp);
+        Mockito.verify(adapterService).handleTask(currentTaskDto, false, List.of(), null);
+    }
+
+    @Test
+    void launchJobWithOutdatedRecentTaskDtoTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto launchedTaskDto = new TaskDto(taskDto.getId(), OffsetDateTime.parse(timestamp), TaskStatus.RUNNING, null, null, null, null, null, null);
+        Mockito.when(recentTaskView.get(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(launchedTaskDto)));
+
+        Assertions.assertThat(service.tryLaunchJob(timestamp, List.of())).isEqualTo(JobLaunchOutcome.Status.NOT_READY);
+
+        Mockito.verify(recentTaskView).update(launchedTaskDto);
+        Mockito.verifyNoInteractions(adapterService);
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).isEmpty();
+    }
+
+    @Test
+    void launchJobFetchesTaskOnceOnMissTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
+
+        service.launchJob(timestamp, List.of());
+
+        Mockito.verify(asyncTaskManagerService, Mockito.times(1)).getTaskFromTimestamp(timestamp);
+        Mockito.verify(adapterService).handleTask(taskDto, false, List.of(), null);
+    }
+
+    @Test
+    void launchJobFeedsRecentTaskViewOnMissTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
+
+        service.launchJob(timestamp, List.of());
+
+        Mockito.verify(recentTaskView).update(taskDto);
+    }
+
+    @Test
+    void tryLaunchJobReturnsStatusTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto readyTaskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        final TaskDto runningTaskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.RUNNING, null, null, null, null, null, null);
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(runningTaskDto)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(readyTaskDto)));
+
+        Assertions.assertThat(service.tryLaunchJob(timestamp, List.of())).isEqualTo(JobLaunchOutcome.Status.NOT_FOUND);
+        Assertions.assertThat(service.tryLaunchJob(timestamp, List.of())).isEqualTo(JobLaunchOutcome.Status.NOT_READY);
+        Assertions.assertThat(service.tryLaunchJob(timestamp, List.of())).isEqualTo(JobLaunchOutcome.Status.LAUNCHED);
+    }
+
+    @Test
+    void rejectedLaunchReleasesTimestampTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
+        // The only slot is taken and the queue of manual launches is full
+        launchScheduler.submit(LaunchRegistry.Source.AUTOMATIC, CompletableFuture::new);
+        awaitRunningLaunch();
+        launchScheduler.submit(LaunchRegistry.Source.MANUAL, CompletableFuture::new);
+
+        final List<TaskParameterDto> parameters = List.of();
+        Assertions.assertThatExceptionOfType(LaunchRejectedException.class)
+                .isThrownBy(() -> service.tryLaunchJob(timestamp, parameters));
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).isEmpty();
+        Mockito.verifyNoInteractions(adapterService);
+    }
+
+    @Test
+    void queuedLaunchDoesNotHoldCallingThreadTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
+        final CompletableFuture<Void> runningLaunch = new CompletableFuture<>();
+        launchScheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> runningLaunch);
+        awaitRunningLaunch();
+
+        final CompletableFuture<Void> launch = service.launchJobAsync(timestamp, List.of());
+
+        Assertions.assertThat(launch).isNotDone();
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).singleElement()
+                .hasFieldOrPropertyWithValue("stage", LaunchRegistry.Stage.QUEUED);
+        Mockito.verifyNoInteractions(adapterService);
+        runningLaunch.complete(null);
+        launch.join();
+        Mockito.verify(adapterService).handleTask(taskDto, false, List.of(), null);
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).isEmpty();
+    }
+
+    @Test
+    void fetchedTaskDoesNotHoldCallingThreadTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        final CompletableFuture<Optional<TaskDto>> taskFetching = new CompletableFuture<>();
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(taskFetching);
+
+        final CompletableFuture<Void> launch = service.launchJobAsync(timestamp, List.of());
+
+        // The task-manager has not answered yet, the calling thread is already released
+        Assertions.assertThat(launch).isNotDone();
+        Mockito.verifyNoInteractions(adapterService);
+        taskFetching.complete(Optional.of(taskDto));
+        launch.join();
+        Mockito.verify(adapterService).handleTask(taskDto, false, List.of(), null);
+    }
+
     @Test
     @DisplayName("Testing that a timestamp cannot be launched twice simultaneously.")
     void testSimultaneity() throws InterruptedException {
         final String timestamp = "2024-09-18T09:30Z";
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp))
-                .thenAnswer(AdditionalAnswers
-                        .answersWithDelay(1000, invocation -> Optional.empty()));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp))
+                .thenReturn(CompletableFuture.supplyAsync(Optional::empty, CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS)));
         // Use CountDownLatch to ensure both threads start simultaneously
         final CountDownLatch startLatch = new CountDownLatch(1);
         final Runnable runnable = () -> {
@@ -81,7 +223,20 @@ class JobLauncherManualServiceTest {
         // One thread must have been stopped
         t1.join();
         t2.join();
-        Mockito.verify(taskManagerService, Mockito.times(1)).getTaskFromTimestamp(timestamp);
+        Mockito.verify(asyncTaskManagerService, Mockito.times(1)).getTaskFromTimestamp(timestamp);
+    }
+
+    @Test
+    void tryLaunchJobWithTimestampAlreadyClaimedTest() {
+        final String timestamp = "2024-09-18T09:30Z";
+        final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
+        Mockito.when(recentTaskView.get(timestamp)).thenReturn(Optional.of(taskDto));
+        launchClaimStore.tryClaim("2024-09-18T11:30+02:00", "launch-of-another-instance");
+
+        Assertions.assertThat(service.tryLaunchJob(timestamp, List.of())).isEqualTo(JobLaunchOutcome.Status.ALREADY_BEING_LAUNCHED);
+        Mockito.verifyNoInteractions(adapterService);
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).isEmpty();
+        Assertions.assertThat(launchClaimStore.tryClaim(timestamp, "launch-of-a-third-instance")).isFalse();
     }
 
     @Test
@@ -89,7 +244,7 @@ class JobLauncherManualServiceTest {
     void testRestartOk() throws InterruptedException {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.SUCCESS, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
         final Runnable runnable = () -> service.launchJob(timestamp, List.of());
         final Thread t1 = new Thread(runnable);
         t1.start();
@@ -99,7 +254,7 @@ class JobLauncherManualServiceTest {
         t2.start();
         t2.join();
         // Verify the timestamp can be relaunched
-        Mockito.verify(taskManagerService, Mockito.times(2)).getTaskFromTimestamp(Mockito.anyString());
+        Mockito.verify(asyncTaskManagerService, Mockito.times(2)).getTaskFromTimestamp(Mockito.anyString());
     }
 
     @Test
@@ -107,16 +262,16 @@ class JobLauncherManualServiceTest {
     void testException() {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), TaskStatus.READY, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp))
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp))
                 // crashes on first run
                 .thenThrow(new RuntimeException())
                 // then succeeds on second
-                .thenReturn(Optional.of(taskDto));
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
         final List<TaskParameterDto> emptyList = List.of();
         Assertions.assertThatExceptionOfType(RuntimeException.class)
                 .isThrownBy(() -> service.launchJob(timestamp, emptyList));
         service.launchJob(timestamp, emptyList);
-        Mockito.verify(taskManagerService, Mockito.times(2)).getTaskFromTimestamp(Mockito.anyString());
+        Mockito.verify(asyncTaskManagerService, Mockito.times(2)).getTaskFromTimestamp(Mockito.anyString());
     }
 
     @ParameterizedTest
@@ -124,7 +279,7 @@ class JobLauncherManualServiceTest {
     void launchJobWithNotReadyTask(final TaskStatus taskStatus) {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
 
         service.launchJob(timestamp, List.of());
 
@@ -136,13 +291,23 @@ class JobLauncherManualServiceTest {
     void launchJobWithReadyTaskAndParameters(final TaskStatus taskStatus) {
         final String timestamp = "2024-09-18T09:30Z";
         final TaskDto taskDto = new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), taskStatus, null, null, null, null, null, null);
-        Mockito.when(taskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(Optional.of(taskDto));
+        Mockito.when(asyncTaskManagerService.getTaskFromTimestamp(timestamp)).thenReturn(CompletableFuture.completedFuture(Optional.of(taskDto)));
         final List<TaskParameterDto> parameters = List.of(new TaskParameterDto("id", "type", "value", "default"));
 
         service.launchJob(timestamp, parameters);
 
         final ArgumentCaptor<List<TaskParameterDto>> parametersCaptor = ArgumentCaptor.forClass(List.class);
-        Mockito.verify(adapterService, Mockito.times(1)).handleTask(Mockito.eq(taskDto), Mockito.eq(false), parametersCaptor.capture());
+        Mockito.verify(adapterService, Mockito.times(1)).handleTask(Mockito.eq(taskDto), Mockito.eq(false), parametersCaptor.capture(), Mockito.isNull());
         Assertions.assertThat(parametersCaptor.getValue()).isEqualTo(parameters);
     }
+
+    private void awaitRunningLaunch() {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (launchScheduler.getRunningLaunches() == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Launch not started");
+            }
+            Thread.onSpinWait();
+        }
+    }
 }
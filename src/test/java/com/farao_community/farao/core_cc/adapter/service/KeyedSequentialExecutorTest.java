@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class KeyedSequentialExecutorTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeyedSequentialExecutor<String> executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksWithSameKeyAreRunSequentiallyInOrder() throws InterruptedException {
+        executor = new KeyedSequentialExecutor<>(4, 100, "test", meterRegistry);
+        final List<Integer> runOrder = new CopyOnWriteArrayList<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            executor.submit("key", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                runOrder.add(index);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        Assertions.assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(runOrder).isSorted().hasSize(20);
+        Assertions.assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void tasksWithDifferentKeysAreRunInParallel() throws InterruptedException {
+        executor = new KeyedSequentialExecutor<>(2, 100, "test", meterRegistry);
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit("key-1", () -> awaitQuietly(bothStarted, release));
+        executor.submit("key-2", () -> awaitQuietly(bothStarted, release));
+
+        Assertions.assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(meterRegistry.get("test.in-flight").gauge().value()).isEqualTo(2);
+        release.countDown();
+    }
+
+    @Test
+    void queuedTasksAreExposedAsMetrics() throws InterruptedException {
+        executor = new KeyedSequentialExecutor<>(1, 100, "test", meterRegistry);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+
+        executor.submit("key-1", () -> {
+            awaitQuietly(started, release);
+            done.countDown();
+        });
+        executor.submit("key-1", done::countDown);
+        executor.submit("key-2", done::countDown);
+
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(meterRegistry.get("test.queue-depth").gauge().value()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("test.in-flight").gauge().value()).isEqualTo(1);
+        release.countDown();
+        Assertions.assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failingTaskDoesNotBlockNextTasksOfSameKey() throws InterruptedException {
+        executor = new KeyedSequentialExecutor<>(1, 100, "test", meterRegistry);
+        final CountDownLatch done = new CountDownLatch(1);
+
+        executor.submit("key", () -> {
+            throw new IllegalStateException("failure");
+        });
+        executor.submit("key", done::countDown);
+
+        Assertions.assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void asynchronousTaskHoldsItsKeyButNotItsThread() throws InterruptedException {
+        executor = new KeyedSequentialExecutor<>(1, 100, "test", meterRegistry);
+        final CompletableFuture<Void> firstTask = new CompletableFuture<>();
+        final CountDownLatch otherKeyDone = new CountDownLatch(1);
+        final CountDownLatch sameKeyDone = new CountDownLatch(1);
+
+        executor.submitAsync("key-1", () -> firstTask);
+        executor.submit("key-1", sameKeyDone::countDown);
+        executor.submit("key-2", otherKeyDone::countDown);
+
+        Assertions.assertThat(otherKeyDone.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(sameKeyDone.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        Assertions.assertThat(meterRegistry.get("test.in-flight").gauge().value()).isEqualTo(1);
+        firstTask.complete(null);
+        Assertions.assertThat(sameKeyDone.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQuietly(final CountDownLatch started, final CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
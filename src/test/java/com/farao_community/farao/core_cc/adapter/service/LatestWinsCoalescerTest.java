@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LatestWinsCoalescerTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> handledValues = new CopyOnWriteArrayList<>();
+    private KeyedSequentialExecutor<String> executor;
+    private LatestWinsCoalescer<String, String> coalescer;
+
+    @BeforeEach
+    void init() {
+        executor = new KeyedSequentialExecutor<>(2, 100, "test", meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void onlyLatestValueReceivedDuringWindowIsHandled() throws InterruptedException {
+        final CountDownLatch handled = new CountDownLatch(2);
+        coalescer = new LatestWinsCoalescer<>(Duration.ofMillis(200), 100, executor, value -> {
+            handledValues.add(value);
+            handled.countDown();
+            return CompletableFuture.completedFuture(null);
+        }, "test", meterRegistry);
+
+        coalescer.submit("key-1", "value-1");
+        coalescer.submit("key-1", "value-2");
+        coalescer.submit("key-1", "value-3");
+        coalescer.submit("key-2", "value-4");
+
+        Assertions.assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(handledValues).containsExactlyInAnyOrder("value-3", "value-4");
+        Assertions.assertThat(meterRegistry.get("test.superseded").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void valuesReceivedWhileKeyIsHandledAreCoalesced() throws InterruptedException {
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(2);
+        coalescer = new LatestWinsCoalescer<>(Duration.ZERO, 100, executor, value -> {
+            if (value.equals("value-1")) {
+                firstStarted.countDown();
+                awaitQuietly(releaseFirst);
+            }
+            handledValues.add(value);
+            handled.countDown();
+            return CompletableFuture.completedFuture(null);
+        }, "test", meterRegistry);
+
+        coalescer.submit("key", "value-1");
+        Assertions.assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescer.submit("key", "value-2");
+        coalescer.submit("key", "value-3");
+        releaseFirst.countDown();
+
+        Assertions.assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(handledValues).containsExactly("value-1", "value-3");
+        Assertions.assertThat(meterRegistry.get("test.superseded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void submissionOfNewKeyBlocksWhenMaxPendingKeysIsReached() throws InterruptedException {
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(2);
+        coalescer = new LatestWinsCoalescer<>(Duration.ofMillis(50), 1, executor, value -> {
+            if (value.equals("value-1")) {
+                firstStarted.countDown();
+                awaitQuietly(releaseFirst);
+            }
+            handledValues.add(value);
+            handled.countDown();
+            return CompletableFuture.completedFuture(null);
+        }, "test", meterRegistry);
+
+        coalescer.submit("key-1", "value-1");
+        Assertions.assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final Thread submitter = new Thread(() -> coalescer.submit("key-2", "value-2"));
+        submitter.start();
+        submitter.join(300);
+
+        // The submitting thread waits for the handling of key-1, nothing is queued in the meantime
+        Assertions.assertThat(submitter.isAlive()).isTrue();
+        Assertions.assertThat(coalescer.getPendingKeys()).isZero();
+        Assertions.assertThat(executor.getQueuedTasks()).isZero();
+
+        releaseFirst.countDown();
+        submitter.join(5000);
+        Assertions.assertThat(submitter.isAlive()).isFalse();
+        Assertions.assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(handledValues).containsExactly("value-1", "value-2");
+    }
+
+    @Test
+    void keyIsHeldUntilAsynchronousHandlingIsDone() throws InterruptedException {
+        final CompletableFuture<Void> firstHandling = new CompletableFuture<>();
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(2);
+        coalescer = new LatestWinsCoalescer<>(Duration.ZERO, 100, executor, value -> {
+            handledValues.add(value);
+            handled.countDown();
+            firstStarted.countDown();
+            return value.equals("value-1") ? firstHandling : CompletableFuture.completedFuture(null);
+        }, "test", meterRegistry);
+
+        coalescer.submit("key", "value-1");
+        Assertions.assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescer.submit("key", "value-2");
+
+        // No thread is held by the first handling, but the second value waits for it
+        Assertions.assertThat(handled.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        Assertions.assertThat(handledValues).containsExactly("value-1");
+        firstHandling.complete(null);
+        Assertions.assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(handledValues).containsExactly("value-1", "value-2");
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchPlanConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LaunchPlanCacheTest {
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2024-06-18T08:30Z");
+    private static final ProcessFileDto RAOREQUEST = new ProcessFileDto("path/raorequest.xml", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, TIMESTAMP);
+    private static final ProcessFileDto CGM = new ProcessFileDto("path/cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", TIMESTAMP);
+    private static final ProcessFileDto GLSK = new ProcessFileDto("path/glsk.xml", "GLSK", ProcessFileStatus.VALIDATED, "glsk.xml", "glsk-document-id", TIMESTAMP);
+    private static final ProcessFileDto NEW_CGM = new ProcessFileDto("path/cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", TIMESTAMP.plusMinutes(5));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LaunchPlanCache launchPlanCache = new LaunchPlanCache(new LaunchPlanConfiguration(10, 1), meterRegistry);
+    private final AtomicInteger plannings = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        launchPlanCache.shutdown();
+    }
+
+    @Test
+    void preparedPlanIsReturnedForSameInputsTest() {
+        final TaskDto taskDto = getTaskDto(CGM);
+        final LaunchPlan launchPlan = new LaunchPlan(List.of(RAOREQUEST, CGM), Map.of());
+
+        launchPlanCache.prepare(taskDto, () -> plan(launchPlan));
+        launchPlanCache.prepare(getTaskDto(CGM), () -> plan(launchPlan));
+
+        Assertions.assertThat(launchPlanCache.get(getTaskDto(CGM))).containsSame(launchPlan);
+        Assertions.assertThat(plannings.get()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-plan.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void planIsPreparedAgainWhenInputsChangeTest() {
+        final LaunchPlan outdatedLaunchPlan = new LaunchPlan(List.of(RAOREQUEST, CGM), Map.of());
+        final LaunchPlan launchPlan = new LaunchPlan(List.of(RAOREQUEST, NEW_CGM), Map.of());
+
+        launchPlanCache.prepare(getTaskDto(CGM), () -> plan(outdatedLaunchPlan));
+        Assertions.assertThat(launchPlanCache.get(getTaskDto(NEW_CGM))).isEmpty();
+        launchPlanCache.prepare(getTaskDto(NEW_CGM), () -> plan(launchPlan));
+
+        Assertions.assertThat(launchPlanCache.get(getTaskDto(NEW_CGM))).containsSame(launchPlan);
+        Assertions.assertThat(launchPlanCache.get(getTaskDto(CGM))).isEmpty();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-plan.invalidations").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void planIsKeptWhenUnrelatedInputsAreAddedTest() {
+        final LaunchPlan launchPlan = new LaunchPlan(List.of(RAOREQUEST, CGM), Map.of());
+        final TaskDto taskDtoWithNewFile = new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, List.of(RAOREQUEST, CGM, GLSK), List.of(RAOREQUEST, CGM, GLSK),
+                List.of(), List.of(), List.of(), List.of());
+
+        launchPlanCache.prepare(getTaskDto(CGM), () -> plan(launchPlan));
+        Assertions.assertThat(launchPlanCache.get(taskDtoWithNewFile)).containsSame(launchPlan);
+        launchPlanCache.prepare(taskDtoWithNewFile, () -> plan(launchPlan));
+
+        Assertions.assertThat(plannings.get()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-plan.invalidations").counter().count()).isZero();
+    }
+
+    @Test
+    void planIsNotUsedWhenAnotherFileMatchesItsDocumentIdsTest() {
+        final ProcessFileDto otherCgm = new ProcessFileDto("path/other-cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "other-cgm.zip", "cgm-document-id", TIMESTAMP);
+        final TaskDto taskDtoWithDuplicate = new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.READY, List.of(RAOREQUEST, otherCgm, CGM), List.of(RAOREQUEST, otherCgm, CGM),
+                List.of(), List.of(), List.of(), List.of());
+
+        launchPlanCache.prepare(getTaskDto(CGM), () -> plan(new LaunchPlan(List.of(RAOREQUEST, CGM), Map.of())));
+
+        Assertions.assertThat(launchPlanCache.get(taskDtoWithDuplicate)).isEmpty();
+    }
+
+    @Test
+    void failedPlanIsNotReturnedTest() {
+        final TaskDto taskDto = getTaskDto(CGM);
+
+        launchPlanCache.prepare(taskDto, () -> {
+            throw new RaoRequestImportException("Cannot download rao request file 'path/raorequest.xml'", null);
+        });
+
+        Assertions.assertThat(launchPlanCache.get(taskDto)).isEmpty();
+    }
+
+    @Test
+    void noPlanIsPreparedWhenDisabledTest() {
+        final LaunchPlanCache disabledLaunchPlanCache = new LaunchPlanCache(new LaunchPlanConfiguration(0, 1), meterRegistry);
+        final TaskDto taskDto = getTaskDto(CGM);
+
+        disabledLaunchPlanCache.prepare(taskDto, () -> plan(new LaunchPlan(List.of(RAOREQUEST, CGM), Map.of())));
+
+        Assertions.assertThat(disabledLaunchPlanCache.get(taskDto)).isEmpty();
+        Assertions.assertThat(plannings.get()).isZero();
+        disabledLaunchPlanCache.shutdown();
+    }
+
+    private LaunchPlan plan(final LaunchPlan launchPlan) {
+        plannings.incrementAndGet();
+        return launchPlan;
+    }
+
+    private static TaskDto getTaskDto(final ProcessFileDto cgm) {
+        return new TaskDto(UUID.randomUUID(), TIMESTAMP, TaskStatus.CREATED, List.of(RAOREQUEST, cgm), List.of(RAOREQUEST, cgm), List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LaunchRegistryTest {
+    private final InMemoryLaunchClaimStore launchClaimStore = new InMemoryLaunchClaimStore(Duration.ofMinutes(10));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LaunchRegistry launchRegistry = new LaunchRegistry(launchClaimStore, meterRegistry);
+
+    @Test
+    void equivalentTimestampsAreDeduplicated() {
+        final Optional<LaunchRegistry.Launch> launch = launchRegistry.tryStart("2024-01-01T00:00Z", LaunchRegistry.Source.MANUAL);
+
+        Assertions.assertThat(launch).isPresent();
+        Assertions.assertThat(launchRegistry.tryStart("2024-01-01T01:00+01:00", LaunchRegistry.Source.AUTOMATIC)).isEmpty();
+
+        launchRegistry.finish(launch.get());
+        Assertions.assertThat(launchRegistry.tryStart("2024-01-01T01:00+01:00", LaunchRegistry.Source.AUTOMATIC)).isPresent();
+    }
+
+    @Test
+    void timestampIsOnlyClaimedOnceLaunchIsAdmitted() {
+        final LaunchRegistry.Launch launch = launchRegistry.tryStart("2024-01-01T00:00Z", LaunchRegistry.Source.MANUAL).orElseThrow();
+        Assertions.assertThat(launchClaimStore.tryClaim("2024-01-01T00:00Z", "launch-of-another-instance")).isTrue();
+
+        Assertions.assertThat(launchRegistry.tryClaim(launch)).isFalse();
+
+        launchRegistry.finish(launch);
+        Assertions.assertThat(launchRegistry.getInFlightLaunches()).isEmpty();
+        Assertions.assertThat(launchClaimStore.tryClaim("2024-01-01T00:00Z", "launch-of-a-third-instance")).isFalse();
+    }
+
+    @Test
+    void finishedLaunchReleasesItsClaim() {
+        final LaunchRegistry.Launch launch = launchRegistry.tryStart("2024-01-01T00:00Z", LaunchRegistry.Source.AUTOMATIC).orElseThrow();
+        Assertions.assertThat(launchRegistry.tryClaim(launch)).isTrue();
+        Assertions.assertThat(launchClaimStore.tryClaim("2024-01-01T00:00Z", "launch-of-another-instance")).isFalse();
+
+        launchRegistry.finish(launch);
+
+        Assertions.assertThat(launchClaimStore.tryClaim("2024-01-01T00:00Z", "launch-of-another-instance")).isTrue();
+    }
+
+    @Test
+    void inFlightLaunchesExposeTheirState() {
+        launchRegistry.tryStart("2024-01-01T01:00Z", LaunchRegistry.Source.AUTOMATIC);
+        launchRegistry.tryStart("2024-01-01T00:00Z", LaunchRegistry.Source.MANUAL);
+        launchRegistry.updateStage(OffsetDateTime.parse("2024-01-01T02:00+01:00"), LaunchRegistry.Stage.ADDING_RUN);
+
+        Assertions.assertThat(launchRegistry.getInFlightLaunches())
+                .extracting(LaunchRegistry.LaunchState::timestamp, LaunchRegistry.LaunchState::source, LaunchRegistry.LaunchState::stage)
+                .containsExactly(
+                        Assertions.tuple(Instant.parse("2024-01-01T00:00:00Z"), LaunchRegistry.Source.MANUAL, LaunchRegistry.Stage.STARTED),
+                        Assertions.tuple(Instant.parse("2024-01-01T01:00:00Z"), LaunchRegistry.Source.AUTOMATIC, LaunchRegistry.Stage.ADDING_RUN));
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launches.in-flight").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidTimestampIsRejected() {
+        Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                .isThrownBy(() -> launchRegistry.tryStart("not-a-timestamp", LaunchRegistry.Source.MANUAL))
+                .withMessage("Invalid timestamp not-a-timestamp");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.LaunchSchedulerConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.LaunchRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LaunchSchedulerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LaunchScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void manualLaunchesAreAdmittedBeforeAutomaticOnesTest() {
+        scheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 10), meterRegistry);
+        final CompletableFuture<Void> blocking = new CompletableFuture<>();
+        final List<String> admissionOrder = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<Void> blockingLaunch = scheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> blocking);
+        awaitCondition(() -> scheduler.getRunningLaunches() == 1);
+        final CompletableFuture<Boolean> automatic = scheduler.submit(LaunchRegistry.Source.AUTOMATIC,
+                () -> CompletableFuture.completedFuture(admissionOrder.add("automatic")));
+        final CompletableFuture<Boolean> manual = scheduler.submit(LaunchRegistry.Source.MANUAL,
+                () -> CompletableFuture.completedFuture(admissionOrder.add("manual")));
+
+        // The launches are queued, the submitting thread is not held
+        Assertions.assertThat(scheduler.getQueuedLaunches(LaunchRegistry.Source.AUTOMATIC)).isEqualTo(1);
+        Assertions.assertThat(scheduler.getQueuedLaunches(LaunchRegistry.Source.MANUAL)).isEqualTo(1);
+        Assertions.assertThat(automatic).isNotDone();
+        Assertions.assertThat(manual).isNotDone();
+        blocking.complete(null);
+        blockingLaunch.join();
+        automatic.join();
+        manual.join();
+
+        Assertions.assertThat(admissionOrder).containsExactly("manual", "automatic");
+        Assertions.assertThat(scheduler.getRunningLaunches()).isZero();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-scheduler.queue-time").tag("source", "manual").timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-scheduler.queue-time").tag("source", "automatic").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void launchIsRejectedWhenQueueOfItsSourceIsFullTest() {
+        scheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 1), meterRegistry);
+        final CompletableFuture<Void> blocking = new CompletableFuture<>();
+
+        scheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> blocking);
+        awaitCondition(() -> scheduler.getRunningLaunches() == 1);
+        final CompletableFuture<Void> queued = scheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> CompletableFuture.completedFuture(null));
+
+        Assertions.assertThatExceptionOfType(LaunchRejectedException.class)
+                .isThrownBy(() -> scheduler.submit(LaunchRegistry.Source.AUTOMATIC, () -> CompletableFuture.completedFuture(null)))
+                .withMessage("Launch queue of automatic launches is full");
+        final CompletableFuture<Void> manual = scheduler.submit(LaunchRegistry.Source.MANUAL, () -> CompletableFuture.completedFuture(null));
+        Assertions.assertThat(scheduler.getQueuedLaunches(LaunchRegistry.Source.MANUAL)).isEqualTo(1);
+
+        blocking.complete(null);
+        queued.join();
+        manual.join();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-scheduler.rejected").tag("source", "automatic").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.launch-scheduler.rejected").tag("source", "manual").counter().count()).isZero();
+    }
+
+    @Test
+    void slotIsReleasedWhenLaunchFailsTest() {
+        scheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 0), meterRegistry);
+
+        final CompletableFuture<Void> failingLaunch = scheduler.submit(LaunchRegistry.Source.MANUAL, () -> {
+            throw new IllegalStateException();
+        });
+
+        Assertions.assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(failingLaunch::join)
+                .withCauseInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(scheduler.getRunningLaunches()).isZero();
+        Assertions.assertThat(scheduler.submit(LaunchRegistry.Source.MANUAL, () -> CompletableFuture.completedFuture("launched")).join()).isEqualTo("launched");
+    }
+
+    @Test
+    void launchIsStartedWithLoggingContextOfCallerTest() {
+        scheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 0), meterRegistry);
+
+        MDC.put("gridcapa-task-id", "task-id");
+        try {
+            Assertions.assertThat(scheduler.submit(LaunchRegistry.Source.MANUAL, () -> CompletableFuture.completedFuture(MDC.get("gridcapa-task-id"))).join())
+                    .isEqualTo("task-id");
+        } finally {
+            MDC.remove("gridcapa-task-id");
+        }
+    }
+
+    @Test
+    void queuedLaunchesAreRejectedOnShutdownTest() {
+        scheduler = new LaunchScheduler(new LaunchSchedulerConfiguration(1, 1), meterRegistry);
+        scheduler.submit(LaunchRegistry.Source.AUTOMATIC, CompletableFuture::new);
+        awaitCondition(() -> scheduler.getRunningLaunches() == 1);
+        final CompletableFuture<Void> queued = scheduler.submit(LaunchRegistry.Source.MANUAL, () -> CompletableFuture.completedFuture(null));
+
+        scheduler.shutdown();
+
+        Assertions.assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(queued::join)
+                .withCauseInstanceOf(LaunchRejectedException.class);
+        Assertions.assertThatExceptionOfType(LaunchRejectedException.class)
+                .isThrownBy(() -> scheduler.submit(LaunchRegistry.Source.MANUAL, () -> CompletableFuture.completedFuture(null)));
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
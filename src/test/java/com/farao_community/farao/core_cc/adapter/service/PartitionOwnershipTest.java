@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.PartitionConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PartitionOwnershipTest {
+    private static final List<Instant> TIMESTAMPS = IntStream.range(0, 48)
+            .mapToObj(i -> Instant.parse("2024-09-18T00:30:00Z").plus(Duration.ofHours(i)))
+            .toList();
+
+    @TempDir
+    private Path directory;
+    private final List<PartitionOwnership> instances = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        instances.forEach(PartitionOwnership::shutdown);
+    }
+
+    private PartitionOwnership startInstance() {
+        final PartitionOwnership instance = new PartitionOwnership(
+                new PartitionConfiguration(true, directory, Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        instances.add(instance);
+        instances.forEach(PartitionOwnership::heartbeat);
+        return instance;
+    }
+
+    @Test
+    void disabledPartitioningOwnsAllTimestamps() {
+        final PartitionOwnership ownership = new PartitionOwnership(
+                new PartitionConfiguration(false, directory, Duration.ofSeconds(10), Duration.ofSeconds(30)), new SimpleMeterRegistry());
+
+        Assertions.assertThat(TIMESTAMPS).allMatch(ownership::owns);
+    }
+
+    @Test
+    void eachTimestampIsOwnedByExactlyOneInstance() {
+        startInstance();
+        startInstance();
+        startInstance();
+
+        Assertions.assertThat(instances).allSatisfy(instance -> Assertions.assertThat(instance.getLiveMembers()).hasSize(3));
+        for (Instant timestamp : TIMESTAMPS) {
+            Assertions.assertThat(instances.stream().filter(instance -> instance.owns(timestamp))).hasSize(1);
+        }
+        Assertions.assertThat(instances).allMatch(instance -> TIMESTAMPS.stream().anyMatch(instance::owns));
+    }
+
+    @Test
+    void onlyTimestampsOfLeavingInstanceMove() {
+        startInstance();
+        startInstance();
+        final PartitionOwnership leavingInstance = startInstance();
+        final Map<Instant, PartitionOwnership> ownersBefore = getOwners();
+
+        leavingInstance.shutdown();
+        instances.remove(leavingInstance);
+        instances.forEach(PartitionOwnership::heartbeat);
+
+        final Map<Instant, PartitionOwnership> ownersAfter = getOwners();
+        for (Instant timestamp : TIMESTAMPS) {
+            if (ownersBefore.get(timestamp) != leavingInstance) {
+                Assertions.assertThat(ownersAfter.get(timestamp)).isSameAs(ownersBefore.get(timestamp));
+            }
+        }
+        Assertions.assertThat(ownersAfter).hasSize(TIMESTAMPS.size());
+    }
+
+    @Test
+    void staleMembersAreIgnored() throws IOException {
+        final PartitionOwnership instance = startInstance();
+        final PartitionOwnership staleInstance = startInstance();
+        Files.setLastModifiedTime(directory.resolve(staleInstance.getInstanceId() + ".member"), FileTime.from(Instant.now().minus(Duration.ofMinutes(2))));
+
+        instance.heartbeat();
+
+        Assertions.assertThat(instance.getLiveMembers()).containsExactly(instance.getInstanceId());
+        Assertions.assertThat(TIMESTAMPS).allMatch(instance::owns);
+    }
+
+    @Test
+    void listenersAreNotifiedWhenMembersChange() {
+        final PartitionOwnership instance = startInstance();
+        final PartitionOwnership leavingInstance = startInstance();
+        final Runnable listener = Mockito.mock(Runnable.class);
+        instance.onMembersChange(listener);
+
+        instance.heartbeat();
+        leavingInstance.shutdown();
+        instances.remove(leavingInstance);
+        instance.heartbeat();
+
+        Mockito.verify(listener, Mockito.timeout(5000)).run();
+        Assertions.assertThat(TIMESTAMPS).allMatch(instance::owns);
+    }
+
+    private Map<Instant, PartitionOwnership> getOwners() {
+        final Map<Instant, PartitionOwnership> owners = new HashMap<>();
+        for (Instant timestamp : TIMESTAMPS) {
+            instances.stream().filter(instance -> instance.owns(timestamp)).forEach(instance -> owners.put(timestamp, instance));
+        }
+        return owners;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.PresignedUrlConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa_core_cc.api.resource.CoreCCFileResource;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PresignedUrlServiceTest {
+    private static final ProcessFileDto CGM_PROCESS_FILE = new ProcessFileDto("path/cgm.zip", "CGM", ProcessFileStatus.VALIDATED, "cgm.zip", "cgm-document-id", OffsetDateTime.now());
+    private static final ProcessFileDto GLSK_PROCESS_FILE = new ProcessFileDto("path/glsk.xml", "GLSK", ProcessFileStatus.VALIDATED, "glsk.xml", "glsk-document-id", OffsetDateTime.now());
+
+    private MinioAdapter minioAdapter;
+    private PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void init() {
+        minioAdapter = Mockito.mock(MinioAdapter.class);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/cgm.zip", 3)).thenReturn("cgm-url", "cgm-url-2");
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/glsk.xml", 1)).thenReturn("glsk-url");
+    }
+
+    @AfterEach
+    void tearDown() {
+        presignedUrlService.shutdown();
+    }
+
+    private PresignedUrlService getPresignedUrlService(final Duration minRemainingValidity, final int cacheSize) {
+        final PresignedUrlConfiguration configuration = new PresignedUrlConfiguration(2, 1, Map.of("CGM", 3), minRemainingValidity, cacheSize);
+        return new PresignedUrlService(minioAdapter, configuration, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void urlIsSignedWithValidityOfFileTypeTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 10);
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE))
+                .hasFieldOrPropertyWithValue("filename", "cgm.zip")
+                .hasFieldOrPropertyWithValue("url", "cgm-url");
+        Assertions.assertThat(presignedUrlService.signAsync(GLSK_PROCESS_FILE).join().fileResource())
+                .hasFieldOrPropertyWithValue("filename", "glsk.xml")
+                .hasFieldOrPropertyWithValue("url", "glsk-url");
+    }
+
+    @Test
+    void cancelledSigningIsNotPerformedTest() throws InterruptedException {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 10);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/cgm.zip", 3)).thenAnswer(invocation -> {
+            release.await();
+            return "cgm-url";
+        });
+        final CompletableFuture<PresignedUrlService.SignedFileResource> firstCgmSigning = presignedUrlService.signAsync(CGM_PROCESS_FILE);
+        final CompletableFuture<PresignedUrlService.SignedFileResource> secondCgmSigning = presignedUrlService.signAsync(CGM_PROCESS_FILE);
+        final CompletableFuture<PresignedUrlService.SignedFileResource> glskSigning = presignedUrlService.signAsync(GLSK_PROCESS_FILE);
+
+        glskSigning.cancel(false);
+        release.countDown();
+
+        Assertions.assertThat(firstCgmSigning.join().fileResource().getUrl()).isEqualTo("cgm-url");
+        Assertions.assertThat(secondCgmSigning.join().fileResource().getUrl()).isEqualTo("cgm-url");
+        Mockito.verify(minioAdapter, Mockito.after(200).never()).generatePreSignedUrlFromFullMinioPath("path/glsk.xml", 1);
+    }
+
+    @Test
+    void cancelledRunningSigningIsInterruptedTest() throws InterruptedException {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 10);
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        Mockito.when(minioAdapter.generatePreSignedUrlFromFullMinioPath("path/cgm.zip", 3)).thenAnswer(invocation -> {
+            running.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "cgm-url";
+        });
+        final CompletableFuture<PresignedUrlService.SignedFileResource> cgmSigning = presignedUrlService.signAsync(CGM_PROCESS_FILE);
+        Assertions.assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cgmSigning.cancel(true);
+
+        Assertions.assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void urlSignedAheadOfTimeIsNotSignedAgainTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 0);
+        final PresignedUrlService.SignedFileResource signedFileResource = presignedUrlService.signAsync(CGM_PROCESS_FILE).join();
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE, signedFileResource).getUrl()).isEqualTo("cgm-url");
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("path/cgm.zip", 3);
+    }
+
+    @Test
+    void urlSignedAheadOfTimeIsSignedAgainWhenCloseToExpiryTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 0);
+        final PresignedUrlService.SignedFileResource signedFileResource = new PresignedUrlService.SignedFileResource(
+                new CoreCCFileResource("cgm.zip", "expiring-cgm-url"), Instant.now().plus(Duration.ofHours(1)));
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE, signedFileResource).getUrl()).isEqualTo("cgm-url");
+    }
+
+    @Test
+    void urlIsReusedWhileEnoughValidityRemainsTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 10);
+
+        presignedUrlService.getFileResource(CGM_PROCESS_FILE);
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE).getUrl()).isEqualTo("cgm-url");
+        Mockito.verify(minioAdapter, Mockito.times(1)).generatePreSignedUrlFromFullMinioPath("path/cgm.zip", 3);
+    }
+
+    @Test
+    void urlIsSignedAgainWhenCloseToExpiryTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofDays(4), 10);
+
+        presignedUrlService.getFileResource(CGM_PROCESS_FILE);
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE).getUrl()).isEqualTo("cgm-url-2");
+    }
+
+    @Test
+    void urlIsNotCachedWhenCacheIsDisabledTest() {
+        presignedUrlService = getPresignedUrlService(Duration.ofHours(12), 0);
+
+        presignedUrlService.getFileResource(CGM_PROCESS_FILE);
+
+        Assertions.assertThat(presignedUrlService.getFileResource(CGM_PROCESS_FILE).getUrl()).isEqualTo("cgm-url-2");
+    }
+}
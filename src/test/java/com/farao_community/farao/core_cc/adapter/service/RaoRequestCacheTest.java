@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.RaoRequestConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.CoreCCAdapterException;
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoRequestCacheTest {
+    private static final OffsetDateTime VERSION = OffsetDateTime.parse("2024-06-17T15:00Z");
+
+    private MeterRegistry meterRegistry;
+    private RaoRequestCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RaoRequestCache(new RaoRequestConfiguration(2, true, Duration.ofSeconds(1)), meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    void sameFileVersionIsParsedOnce() throws RaoRequestImportException {
+        final RaoRequestIndex first = cache.get(raoRequestFile("path/raorequest.xml", VERSION), this::load);
+        final RaoRequestIndex second = cache.get(raoRequestFile("path/raorequest.xml", VERSION), this::load);
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(loadCount).hasValue(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.raorequest.cache.hit-ratio").gauge().value()).isEqualTo(0.5);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.raorequest.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void newFileVersionIsParsedAgain() throws RaoRequestImportException {
+        cache.get(raoRequestFile("path/raorequest.xml", VERSION), this::load);
+        cache.get(raoRequestFile("path/raorequest.xml", VERSION.plusMinutes(5)), this::load);
+
+        Assertions.assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void leastRecentlyUsedFileIsEvicted() throws RaoRequestImportException {
+        cache.get(raoRequestFile("path/first.xml", VERSION), this::load);
+        cache.get(raoRequestFile("path/second.xml", VERSION), this::load);
+        cache.get(raoRequestFile("path/first.xml", VERSION), this::load);
+        cache.get(raoRequestFile("path/third.xml", VERSION), this::load);
+        cache.get(raoRequestFile("path/first.xml", VERSION), this::load);
+
+        Assertions.assertThat(loadCount).hasValue(3);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.raorequest.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedParsingIsNotCached() throws RaoRequestImportException {
+        final ProcessFileDto raoRequestFile = raoRequestFile("path/raorequest.xml", VERSION);
+        final RaoRequestImportException exception = new RaoRequestImportException("error", null);
+
+        Assertions.assertThatExceptionOfType(RaoRequestImportException.class)
+                .isThrownBy(() -> cache.get(raoRequestFile, () -> {
+                    throw exception;
+                }))
+                .isSameAs(exception);
+        cache.get(raoRequestFile, this::load);
+
+        Assertions.assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void fileWithoutVersionIsNotCached() throws RaoRequestImportException {
+        cache.get(raoRequestFile("path/raorequest.xml", null), this::load);
+        cache.get(raoRequestFile("path/raorequest.xml", null), this::load);
+
+        Assertions.assertThat(loadCount).hasValue(2);
+        Assertions.assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabledCacheAlwaysParses() throws RaoRequestImportException {
+        final RaoRequestCache disabledCache = new RaoRequestCache(new RaoRequestConfiguration(0, true, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+        disabledCache.get(raoRequestFile("path/raorequest.xml", VERSION), this::load);
+        disabledCache.get(raoRequestFile("path/raorequest.xml", VERSION), this::load);
+
+        Assertions.assertThat(disabledCache.isEnabled()).isFalse();
+        Assertions.assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void concurrentRequestsWaitForSingleParsing() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final ProcessFileDto raoRequestFile = raoRequestFile("path/raorequest.xml", VERSION);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<RaoRequestIndex> first = executor.submit(() -> cache.get(raoRequestFile, () -> {
+                loadStarted.countDown();
+                awaitQuietly(releaseLoad);
+                return load();
+            }));
+            Assertions.assertThat(loadStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            final Future<RaoRequestIndex> second = executor.submit(() -> cache.get(raoRequestFile, this::load));
+            releaseLoad.countDown();
+
+            Assertions.assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(first.get(1, TimeUnit.SECONDS));
+            Assertions.assertThat(loadCount).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void errorDuringParsingReleasesWaitingRequests() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final ProcessFileDto raoRequestFile = raoRequestFile("path/raorequest.xml", VERSION);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<RaoRequestIndex> first = executor.submit(() -> cache.get(raoRequestFile, () -> {
+                loadStarted.countDown();
+                awaitQuietly(releaseLoad);
+                throw new OutOfMemoryError("test");
+            }));
+            Assertions.assertThat(loadStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            final Future<RaoRequestIndex> second = executor.submit(() -> cache.get(raoRequestFile, this::load));
+            awaitCacheHits(1);
+            releaseLoad.countDown();
+
+            Assertions.assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+            Assertions.assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(CoreCCAdapterException.class);
+            Assertions.assertThat(cache.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void stuckParsingIsAwaitedForAtMostParseTimeout() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final ProcessFileDto raoRequestFile = raoRequestFile("path/raorequest.xml", VERSION);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> cache.get(raoRequestFile, () -> {
+                loadStarted.countDown();
+                awaitQuietly(releaseLoad, 5);
+                return load();
+            }));
+            Assertions.assertThat(loadStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+            Assertions.assertThatExceptionOfType(CoreCCAdapterException.class)
+                    .isThrownBy(() -> cache.get(raoRequestFile, this::load))
+                    .withMessage("Timed out while waiting for RAOREQUEST file parsing");
+            final RaoRequestIndex reparsed = cache.get(raoRequestFile, this::load);
+
+            Assertions.assertThat(reparsed).isNotNull();
+            Assertions.assertThat(loadCount).hasValue(1);
+        } finally {
+            releaseLoad.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private RaoRequestIndex load() throws RaoRequestImportException {
+        loadCount.incrementAndGet();
+        return RaoRequestIndex.builder()
+                .add("2024-06-18T09:00Z/2024-06-18T10:00Z", List.of("cgm-document-id"))
+                .build();
+    }
+
+    private void awaitCacheHits(final int hits) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("core-cc-adapter.raorequest.cache.requests").tag("result", "hit").counter().count() < hits) {
+            Assertions.assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        awaitQuietly(latch, 1);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch, final long timeoutSeconds) {
+        try {
+            Assertions.assertThat(latch.await(timeoutSeconds, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ProcessFileDto raoRequestFile(final String filePath, final OffsetDateTime version) {
+        return new ProcessFileDto(filePath, "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, version);
+    }
+}
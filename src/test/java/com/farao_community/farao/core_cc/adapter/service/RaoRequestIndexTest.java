@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoRequestIndexTest {
+
+    @Test
+    void lookupFindsIntervalContainingTimestamp() throws RaoRequestImportException {
+        final RaoRequestIndex index = RaoRequestIndex.builder()
+                .add("2024-06-18T09:00Z/2024-06-18T10:00Z", List.of("document-id-09"))
+                .add("2024-06-18T08:00Z/2024-06-18T09:00Z", List.of("document-id-08"))
+                .build();
+
+        Assertions.assertThat(index.size()).isEqualTo(2);
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T08:00:00Z"))).contains(List.of("document-id-08"));
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T08:59:59.999Z"))).contains(List.of("document-id-08"));
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T09:00:00Z"))).contains(List.of("document-id-09"));
+    }
+
+    @Test
+    void lookupOutsideIntervalsIsEmpty() throws RaoRequestImportException {
+        final RaoRequestIndex index = RaoRequestIndex.builder()
+                .add("2024-06-18T08:00Z/2024-06-18T09:00Z", List.of("document-id-08"))
+                .add("2024-06-18T10:00Z/2024-06-18T11:00Z", List.of("document-id-10"))
+                .build();
+
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T07:59:59Z"))).isEmpty();
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T09:30:00Z"))).isEmpty();
+        Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T11:00:00Z"))).isEmpty();
+    }
+
+    @Test
+    void overlappingIntervalsAreRejected() {
+        final RaoRequestIndex.Builder builder = RaoRequestIndex.builder()
+                .add("2024-06-18T08:00Z/2024-06-18T10:00Z", List.of("document-id-08"))
+                .add("2024-06-18T09:00Z/2024-06-18T10:00Z", List.of("document-id-09"));
+
+        Assertions.assertThatExceptionOfType(RaoRequestImportException.class)
+                .isThrownBy(builder::build)
+                .withMessage("Overlapping time intervals in RAOREQUEST file: 2024-06-18T08:00:00Z/2024-06-18T10:00:00Z and 2024-06-18T09:00:00Z/2024-06-18T10:00:00Z");
+    }
+
+    @Test
+    void invalidIntervalIsRejected() {
+        final RaoRequestIndex.Builder builder = RaoRequestIndex.builder();
+
+        Assertions.assertThatExceptionOfType(DateTimeException.class)
+                .isThrownBy(() -> builder.add("not an interval", List.of()));
+    }
+}
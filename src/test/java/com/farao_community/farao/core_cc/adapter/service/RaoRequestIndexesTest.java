@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.exception.RaoRequestImportException;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoRequestIndexesTest {
+    private final RaoRequestIndexes raoRequestIndexes = new RaoRequestIndexes();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void fileWithoutVersionIsIndexedOncePerBatch() throws RaoRequestImportException {
+        final RaoRequestIndex first = raoRequestIndexes.get(raoRequestFile("path/raorequest.xml"), this::load);
+        final RaoRequestIndex second = raoRequestIndexes.get(raoRequestFile("path/raorequest.xml"), this::load);
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void eachFileIsIndexed() throws RaoRequestImportException {
+        raoRequestIndexes.get(raoRequestFile("path/first.xml"), this::load);
+        raoRequestIndexes.get(raoRequestFile("path/second.xml"), this::load);
+
+        Assertions.assertThat(loadCount).hasValue(2);
+        Assertions.assertThat(raoRequestIndexes.size()).isEqualTo(2);
+    }
+
+    @Test
+    void failedIndexingIsReportedToEveryLaunch() {
+        final ProcessFileDto raoRequestFile = raoRequestFile("path/raorequest.xml");
+        final RaoRequestImportException exception = new RaoRequestImportException("error", null);
+
+        Assertions.assertThatExceptionOfType(RaoRequestImportException.class)
+                .isThrownBy(() -> raoRequestIndexes.get(raoRequestFile, () -> {
+                    throw exception;
+                }))
+                .isSameAs(exception);
+        Assertions.assertThatExceptionOfType(RaoRequestImportException.class)
+                .isThrownBy(() -> raoRequestIndexes.get(raoRequestFile, this::load))
+                .isSameAs(exception);
+        Assertions.assertThat(loadCount).hasValue(0);
+    }
+
+    private RaoRequestIndex load() throws RaoRequestImportException {
+        loadCount.incrementAndGet();
+        return RaoRequestIndex.builder()
+                .add("2024-06-18T09:00Z/2024-06-18T10:00Z", List.of("cgm-document-id"))
+                .build();
+    }
+
+    private static ProcessFileDto raoRequestFile(final String filePath) {
+        return new ProcessFileDto(filePath, "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, (OffsetDateTime) null);
+    }
+}
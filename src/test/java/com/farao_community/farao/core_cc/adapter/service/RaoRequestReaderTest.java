@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoRequestReaderTest {
+    private final RaoRequestReader reader = new RaoRequestReader();
+
+    @Test
+    void readDocumentIdsOfMatchingRequestItem() throws Exception {
+        try (InputStream inputStream = getClass().getResourceAsStream("/raorequest/raorequest.xml")) {
+            final Optional<List<String>> documentIds = reader.readDocumentIds(inputStream, Instant.parse("2024-06-18T09:30:00Z"));
+
+            Assertions.assertThat(documentIds)
+                    .get()
+                    .asInstanceOf(InstanceOfAssertFactories.list(String.class))
+                    .containsExactly("cgm-document-id-09", "glsk-document-id", "cbcora-document-id", "refprog-document-id");
+        }
+    }
+
+    @Test
+    void readDocumentIdsWithoutMatchingRequestItem() throws Exception {
+        try (InputStream inputStream = getClass().getResourceAsStream("/raorequest/raorequest.xml")) {
+            Assertions.assertThat(reader.readDocumentIds(inputStream, Instant.parse("2024-06-18T15:30:00Z"))).isEmpty();
+        }
+    }
+
+    @Test
+    void readingStopsAfterMatchingRequestItem() throws Exception {
+        final String truncatedContent = """
+                <RequestMessage xmlns="http://iec.ch/TC57/2011/schema/message" xmlns:req="http://unicorn.com/Request/request-payload">
+                    <Payload>
+                        <req:RequestItems timeInterval="2024-06-18T08:00Z/2024-06-18T10:00Z">
+                            <req:RequestItem timeInterval="2024-06-18T08:00Z/2024-06-18T09:00Z">
+                                <req:Files>
+                                    <req:File code="CGM" url="documentIdentification://cgm-document-id"/>
+                                </req:Files>
+                            </req:RequestItem>
+                            <req:RequestItem timeInterval="unreadable interval">
+                """;
+        final InputStream inputStream = new ByteArrayInputStream(truncatedContent.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThat(reader.readDocumentIds(inputStream, Instant.parse("2024-06-18T08:30:00Z")))
+                .contains(List.of("cgm-document-id"));
+    }
+
+    @Test
+    void readIndexOfWholeFile() throws Exception {
+        try (InputStream inputStream = getClass().getResourceAsStream("/raorequest/raorequest.xml")) {
+            final RaoRequestIndex index = reader.readIndex(inputStream);
+
+            Assertions.assertThat(index.size()).isEqualTo(4);
+            Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T12:00:00Z"))).isEmpty();
+            Assertions.assertThat(index.getDocumentIds(Instant.parse("2024-06-18T10:30:00Z")))
+                    .contains(List.of("cgm-document-id-10", "glsk-document-id", "cbcora-document-id", "refprog-document-id"));
+        }
+    }
+}
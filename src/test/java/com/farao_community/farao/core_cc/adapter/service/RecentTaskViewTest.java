@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.TaskViewConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RecentTaskViewTest {
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void recentTaskIsReturned() {
+        final RecentTaskView view = new RecentTaskView(new TaskViewConfiguration(2, Duration.ofMinutes(1)), meterRegistry);
+        final TaskDto taskDto = getTaskDto("2024-09-18T09:30Z", TaskStatus.READY);
+        view.update(getTaskDto("2024-09-18T09:30Z", TaskStatus.CREATED));
+        view.update(taskDto);
+
+        Assertions.assertThat(view.get("2024-09-18T09:30Z")).containsSame(taskDto);
+        Assertions.assertThat(view.get("2024-09-18T11:30+02:00")).containsSame(taskDto);
+        Assertions.assertThat(getRequestCount("hit")).isEqualTo(2);
+    }
+
+    @Test
+    void unknownOrInvalidTimestampIsMiss() {
+        final RecentTaskView view = new RecentTaskView(new TaskViewConfiguration(2, Duration.ofMinutes(1)), meterRegistry);
+        view.update(getTaskDto("2024-09-18T09:30Z", TaskStatus.READY));
+
+        Assertions.assertThat(view.get("2024-09-18T10:30Z")).isEmpty();
+        Assertions.assertThat(view.get("not a timestamp")).isEmpty();
+        Assertions.assertThat(getRequestCount("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void oldTaskIsStale() {
+        final RecentTaskView view = new RecentTaskView(new TaskViewConfiguration(2, Duration.ZERO), meterRegistry);
+        view.update(getTaskDto("2024-09-18T09:30Z", TaskStatus.READY));
+
+        Assertions.assertThat(view.get("2024-09-18T09:30Z")).isEmpty();
+        Assertions.assertThat(getRequestCount("stale")).isEqualTo(1);
+    }
+
+    @Test
+    void viewIsBoundedInSize() {
+        final RecentTaskView view = new RecentTaskView(new TaskViewConfiguration(2, Duration.ofMinutes(1)), meterRegistry);
+        view.update(getTaskDto("2024-09-18T09:30Z", TaskStatus.READY));
+        view.update(getTaskDto("2024-09-18T10:30Z", TaskStatus.READY));
+        view.update(getTaskDto("2024-09-18T11:30Z", TaskStatus.READY));
+
+        Assertions.assertThat(view.size()).isEqualTo(2);
+        Assertions.assertThat(view.get("2024-09-18T09:30Z")).isEmpty();
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.task-view.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledViewKeepsNothing() {
+        final RecentTaskView view = new RecentTaskView(new TaskViewConfiguration(0, Duration.ofMinutes(1)), meterRegistry);
+        view.update(getTaskDto("2024-09-18T09:30Z", TaskStatus.READY));
+
+        Assertions.assertThat(view.size()).isZero();
+    }
+
+    private double getRequestCount(final String result) {
+        return meterRegistry.get("core-cc-adapter.task-view.requests").tag("result", result).counter().count();
+    }
+
+    private static TaskDto getTaskDto(final String timestamp, final TaskStatus status) {
+        return new TaskDto(UUID.randomUUID(), OffsetDateTime.parse(timestamp), status, null, null, null, null, null, null);
+    }
+}
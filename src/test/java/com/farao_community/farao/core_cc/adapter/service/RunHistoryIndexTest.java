@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.RunHistoryConfiguration;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileDto;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessFileStatus;
+import com.farao_community.farao.gridcapa.task_manager.api.ProcessRunDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
+import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RunHistoryIndexTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2024-09-18T09:30Z");
+    private static final ProcessFileDto CRAC_V1 = new ProcessFileDto("path/crac.xml", "CRAC", ProcessFileStatus.VALIDATED, "crac.xml", "crac-id", OffsetDateTime.parse("2024-09-17T10:00Z"));
+    private static final ProcessFileDto CRAC_V2 = new ProcessFileDto("path/crac.xml", "CRAC", ProcessFileStatus.VALIDATED, "crac.xml", "crac-id", OffsetDateTime.parse("2024-09-17T12:00Z"));
+    private static final ProcessFileDto RAOREQUEST = new ProcessFileDto("path/raorequest.xml", "RAOREQUEST", ProcessFileStatus.VALIDATED, "raorequest.xml", null, OffsetDateTime.parse("2024-09-17T10:00Z"));
+
+    private final RunHistoryIndex index = new RunHistoryIndex(new RunHistoryConfiguration(10), new SimpleMeterRegistry());
+
+    private static TaskDto getTask(final List<ProcessRunDto> runHistory) {
+        return new TaskDto(TASK_ID, TIMESTAMP, TaskStatus.READY, List.of(CRAC_V2, RAOREQUEST), List.of(), List.of(), List.of(), runHistory, List.of());
+    }
+
+    @Test
+    void allFilesUsedComparesPathAndVersion() {
+        final TaskDto taskDto = getTask(List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), List.of(CRAC_V1, RAOREQUEST))));
+
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(RAOREQUEST))).isTrue();
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(CRAC_V1))).isTrue();
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(CRAC_V2, RAOREQUEST))).isFalse();
+    }
+
+    @Test
+    void indexIsUpdatedWithNewRuns() {
+        final List<ProcessRunDto> runHistory = new ArrayList<>();
+        runHistory.add(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(1), List.of(CRAC_V1, RAOREQUEST)));
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V2))).isFalse();
+
+        final UUID newRunId = UUID.randomUUID();
+        runHistory.add(new ProcessRunDto(newRunId, OffsetDateTime.now(), List.of(CRAC_V2, RAOREQUEST)));
+
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V2))).isTrue();
+        Assertions.assertThat(index.getLatestRunId(getTask(runHistory))).contains(newRunId);
+        Assertions.assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void indexIsUpdatedWithRunsAddedAtTheHeadOfHistory() {
+        final List<ProcessRunDto> runHistory = new ArrayList<>();
+        runHistory.add(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(1), List.of(CRAC_V1, RAOREQUEST)));
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V2))).isFalse();
+
+        final UUID newRunId = UUID.randomUUID();
+        runHistory.addFirst(new ProcessRunDto(newRunId, OffsetDateTime.now(), List.of(CRAC_V2, RAOREQUEST)));
+
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V1, CRAC_V2))).isTrue();
+        Assertions.assertThat(index.getLatestRunId(getTask(runHistory))).contains(newRunId);
+    }
+
+    @Test
+    void indexedRunsAreNotReadAgain() {
+        final ProcessRunDto indexedRun = Mockito.spy(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(1), List.of(CRAC_V1)));
+        final List<ProcessRunDto> runHistory = new ArrayList<>(List.of(indexedRun));
+        index.allFilesUsed(getTask(runHistory), List.of(CRAC_V1));
+        runHistory.add(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), List.of(CRAC_V2)));
+
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V1, CRAC_V2))).isTrue();
+        Assertions.assertThat(index.allFilesUsed(getTask(runHistory), List.of(CRAC_V1, CRAC_V2))).isTrue();
+        Mockito.verify(indexedRun, Mockito.times(1)).getInputs();
+    }
+
+    @Test
+    void latestRunIdDoesNotDependOnHistoryOrder() {
+        final UUID latestRunId = UUID.randomUUID();
+        final TaskDto taskDto = getTask(List.of(
+                new ProcessRunDto(latestRunId, OffsetDateTime.now(), List.of()),
+                new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(2), List.of()),
+                new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(1), List.of())));
+
+        Assertions.assertThat(index.getLatestRunId(taskDto)).contains(latestRunId);
+    }
+
+    @Test
+    void indexIsRebuiltWhenRunsAreRemoved() {
+        index.getLatestRunId(getTask(List.of(
+                new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now().minusHours(1), List.of(CRAC_V1)),
+                new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), List.of(CRAC_V2)))));
+
+        final UUID remainingRunId = UUID.randomUUID();
+        final TaskDto taskDto = getTask(List.of(new ProcessRunDto(remainingRunId, OffsetDateTime.now(), List.of(RAOREQUEST))));
+
+        Assertions.assertThat(index.getLatestRunId(taskDto)).contains(remainingRunId);
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(CRAC_V2))).isFalse();
+    }
+
+    @Test
+    void indexIsRebuiltWhenHistoryIsReplacedWithSameNumberOfRuns() {
+        index.allFilesUsed(getTask(List.of(new ProcessRunDto(UUID.randomUUID(), OffsetDateTime.now(), List.of(CRAC_V1)))), List.of(CRAC_V1));
+
+        final UUID replacingRunId = UUID.randomUUID();
+        final TaskDto taskDto = getTask(List.of(new ProcessRunDto(replacingRunId, OffsetDateTime.now(), List.of(CRAC_V2))));
+
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(CRAC_V1))).isFalse();
+        Assertions.assertThat(index.allFilesUsed(taskDto, List.of(CRAC_V2))).isTrue();
+        Assertions.assertThat(index.getLatestRunId(taskDto)).contains(replacingRunId);
+    }
+
+    @Test
+    void noLatestRunWithoutRunHistory() {
+        Assertions.assertThat(index.getLatestRunId(getTask(null))).isEmpty();
+        Assertions.assertThat(index.getLatestRunId(getTask(List.of()))).isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.core_cc.adapter.service;
+
+import com.farao_community.farao.core_cc.adapter.configuration.TaskManagerResilienceConfiguration;
+import com.farao_community.farao.core_cc.adapter.exception.TaskManagerUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientBeans.ADD_RUN_ENDPOINT;
+import static com.farao_community.farao.core_cc.adapter.configuration.TaskManagerClientBeans.GET_TASK_ENDPOINT;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskManagerResilienceTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskManagerResilience getResilience(final Duration openDuration, final int minRetries) {
+        return new TaskManagerResilience(new TaskManagerResilienceConfiguration(2, openDuration, 0.5, minRetries, Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 10);
+
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(GET_TASK_ENDPOINT, 0))
+                .withMessage("Circuit of task-manager get-task calls is open");
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.task-manager.circuit-breaker.state").tag("endpoint", GET_TASK_ENDPOINT).gauge().value()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.task-manager.rejected-calls").tag("reason", "circuit-open").counter().count()).isEqualTo(1);
+        // Other endpoints have their own circuit
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 0);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 10);
+
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.onSuccess(GET_TASK_ENDPOINT);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+    }
+
+    @Test
+    void halfOpenCircuitLetsSingleProbeThrough() {
+        final TaskManagerResilience resilience = getResilience(Duration.ZERO, 10);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(GET_TASK_ENDPOINT, 0));
+
+        resilience.onSuccess(GET_TASK_ENDPOINT);
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+    }
+
+    @Test
+    void failedProbeOpensCircuitAgain() {
+        final TaskManagerResilience resilience = getResilience(Duration.ZERO, 10);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        Assertions.assertThat(getState(resilience)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        Assertions.assertThat(getState(resilience)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void retryBudgetIsCappedByRatioOfCalls() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 1);
+        for (int i = 0; i < 4; i++) {
+            resilience.acquirePermission(ADD_RUN_ENDPOINT, 0);
+        }
+
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 1);
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 2);
+
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(ADD_RUN_ENDPOINT, 3))
+                .withMessage("Retry budget of task-manager calls is exhausted, not retrying add-run call");
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.task-manager.rejected-calls").tag("reason", "retry-budget").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void minimumRetriesAreAlwaysAllowed() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 2);
+
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 1);
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 2);
+
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(ADD_RUN_ENDPOINT, 3));
+    }
+
+    @Test
+    void openCircuitDoesNotConsumeRetryBudget() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 1);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(GET_TASK_ENDPOINT, 1))
+                .withMessage("Circuit of task-manager get-task calls is open");
+
+        resilience.acquirePermission(ADD_RUN_ENDPOINT, 1);
+    }
+
+    @Test
+    void probeRejectedByRetryBudgetIsReleased() {
+        final TaskManagerResilience resilience = getResilience(Duration.ZERO, 0);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        Assertions.assertThatExceptionOfType(TaskManagerUnavailableException.class)
+                .isThrownBy(() -> resilience.acquirePermission(GET_TASK_ENDPOINT, 1))
+                .withMessage("Retry budget of task-manager calls is exhausted, not retrying get-task call");
+
+        // The probe was not sent, so the next call can still probe the task-manager
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        Assertions.assertThat(getState(resilience)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statusContainsAllEndpointsAndRetryBudget() {
+        final TaskManagerResilience resilience = getResilience(Duration.ofMinutes(1), 10);
+        resilience.acquirePermission(GET_TASK_ENDPOINT, 0);
+        resilience.onFailure(GET_TASK_ENDPOINT);
+
+        final Map<String, Object> status = resilience.getStatus();
+
+        Assertions.assertThat(status).containsOnlyKeys("get-task", "add-run", "update-status", "retryBudget");
+        Assertions.assertThat((Map<String, Object>) status.get("get-task"))
+                .containsEntry("state", CircuitBreaker.State.CLOSED)
+                .containsEntry("consecutiveFailures", 1);
+        Assertions.assertThat((Map<String, Object>) status.get("retryBudget")).containsEntry("calls", 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CircuitBreaker.State getState(final TaskManagerResilience resilience) {
+        return (CircuitBreaker.State) ((Map<String, Object>) resilience.getStatus().get(GET_TASK_ENDPOINT)).get("state");
+    }
+}
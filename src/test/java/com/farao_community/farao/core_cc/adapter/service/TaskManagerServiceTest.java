@@ -9,12 +9,12 @@ package com.farao_community.farao.core_cc.adapter.service;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskDto;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -31,15 +31,20 @@ import java.util.Optional;
 @SpringBootTest
 class TaskManagerServiceTest {
     @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
+    private RestTemplate restTemplate;
     @Autowired
     private TaskManagerService taskManagerService;
+    @Autowired
+    private TaskManagerResilience taskManagerResilience;
+
+    @BeforeEach
+    void resetResilience() {
+        taskManagerResilience.reset();
+    }
 
     @Test
     void getTaskFromTimestampNoRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
@@ -52,8 +57,6 @@ class TaskManagerServiceTest {
     @Test
     void getTaskFromTimestampTaskNotFound() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
@@ -65,8 +68,6 @@ class TaskManagerServiceTest {
     @Test
     void getTaskFromTimestampRetryOnce() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class)
@@ -80,8 +81,6 @@ class TaskManagerServiceTest {
     @Test
     void getTaskFromTimestampAllRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class);
 
@@ -93,8 +92,6 @@ class TaskManagerServiceTest {
     @Test
     void addNewRunInTaskHistoryNoRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
@@ -107,8 +104,6 @@ class TaskManagerServiceTest {
     @Test
     void addNewRunInTaskHistoryTaskNotFound() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
@@ -120,8 +115,6 @@ class TaskManagerServiceTest {
     @Test
     void addNewRunInTaskHistoryRetryOnce() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class)
@@ -135,8 +128,6 @@ class TaskManagerServiceTest {
     @Test
     void addNewRunInTaskHistoryAllRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class);
 
@@ -148,8 +139,6 @@ class TaskManagerServiceTest {
     @Test
     void updateTaskStatusNoRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(taskDto, HttpStatus.OK));
@@ -162,8 +151,6 @@ class TaskManagerServiceTest {
     @Test
     void updateTaskStatusTaskNotFound() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenReturn(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
@@ -175,8 +162,6 @@ class TaskManagerServiceTest {
     @Test
     void updateTaskStatusRetryOnce() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         final TaskDto taskDto = Mockito.mock(TaskDto.class);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class)
@@ -190,8 +175,6 @@ class TaskManagerServiceTest {
     @Test
     void updateTaskStatusAllRetry() {
         final String timestamp = "2024-09-13T09:30Z";
-        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        Mockito.when(restTemplateBuilder.build()).thenReturn(restTemplate);
         Mockito.when(restTemplate.exchange(Mockito.contains(timestamp), Mockito.eq(HttpMethod.PUT), Mockito.any(HttpEntity.class), Mockito.eq(TaskDto.class)))
                 .thenThrow(RestClientException.class);
 
@@ -199,4 +182,33 @@ class TaskManagerServiceTest {
 
         Assertions.assertThat(result).isFalse();
     }
+
+    @Test
+    void getTaskFromTimestampFailsFastWhenCircuitIsOpen() {
+        final String timestamp = "2024-09-13T09:30Z";
+        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
+                .thenThrow(RestClientException.class);
+
+        // Circuit opens after 5 consecutive failures: the 6th attempt is not sent
+        taskManagerService.getTaskFromTimestamp(timestamp);
+        taskManagerService.getTaskFromTimestamp(timestamp);
+        final Optional<TaskDto> result = taskManagerService.getTaskFromTimestamp(timestamp);
+
+        Assertions.assertThat(result).isEmpty();
+        Mockito.verify(restTemplate, Mockito.times(5)).getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class));
+    }
+
+    @Test
+    void unexpectedExceptionsAreReportedToCircuitBreaker() {
+        final String timestamp = "2024-09-13T09:30Z";
+        Mockito.when(restTemplate.getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class)))
+                .thenThrow(IllegalArgumentException.class);
+
+        // Unexpected exceptions are not retried, but still count as failures: the circuit opens after 5 of them
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertThat(taskManagerService.getTaskFromTimestamp(timestamp)).isEmpty();
+        }
+
+        Mockito.verify(restTemplate, Mockito.times(5)).getForEntity(Mockito.contains(timestamp), Mockito.eq(TaskDto.class));
+    }
 }
@@ -7,22 +7,68 @@
 package com.farao_community.farao.core_cc.adapter.service;
 
 import com.farao_community.farao.core_cc.adapter.configuration.CoreCCAdapterConfiguration;
+import com.farao_community.farao.core_cc.adapter.configuration.UrlDownloadClientBeans;
+import com.farao_community.farao.core_cc.adapter.configuration.UrlDownloadConfiguration;
 import com.farao_community.farao.gridcapa_core_cc.api.exception.CoreCCInvalidDataException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
  */
 class UrlValidationServiceTest {
+    private static final UrlDownloadConfiguration DOWNLOAD_CONFIGURATION = getDownloadConfiguration(Duration.ofSeconds(1), Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+    private final CountDownLatch releaseStalledResponses = new CountDownLatch(1);
+    private final List<UrlValidationService> services = new ArrayList<>();
+    private final List<PoolingHttpClientConnectionManager> connectionManagers = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void init() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/raorequest.xml", exchange -> respond(exchange, 200, readRaoRequest()));
+        server.createContext("/missing.xml", exchange -> respond(exchange, 404, new byte[0]));
+        server.createContext("/stalled.xml", this::respondThenStall);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseStalledResponses.countDown();
+        services.forEach(UrlValidationService::shutdown);
+        connectionManagers.forEach(PoolingHttpClientConnectionManager::close);
+        server.stop(0);
+    }
+
     @Test
     void whitelistExceptionTest() {
-        final CoreCCAdapterConfiguration configuration = Mockito.mock(CoreCCAdapterConfiguration.class);
-        Mockito.when(configuration.whitelist()).thenReturn(List.of("http://test/", "https://test/"));
-        final UrlValidationService service = new UrlValidationService(configuration);
+        final UrlValidationService service = getService(List.of("http://test/", "https://test/"), DOWNLOAD_CONFIGURATION);
 
         Assertions.assertThatExceptionOfType(CoreCCInvalidDataException.class)
                 .isThrownBy(() -> service.openUrlStream("ftp://test/test.xml"))
@@ -31,12 +77,120 @@ class UrlValidationServiceTest {
 
     @Test
     void readExceptionTest() {
-        final CoreCCAdapterConfiguration configuration = Mockito.mock(CoreCCAdapterConfiguration.class);
-        Mockito.when(configuration.whitelist()).thenReturn(List.of("test/"));
-        final UrlValidationService service = new UrlValidationService(configuration);
+        final UrlValidationService service = getService(List.of("test/"), DOWNLOAD_CONFIGURATION);
 
         Assertions.assertThatExceptionOfType(CoreCCInvalidDataException.class)
                 .isThrownBy(() -> service.openUrlStream("test/test.xml"))
                 .withMessage("Cannot download file resource from URL 'test/test.xml'");
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.download.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void errorResponseFailsTest() {
+        final UrlValidationService service = getService(List.of(baseUrl), DOWNLOAD_CONFIGURATION);
+        final String url = baseUrl + "missing.xml";
+
+        Assertions.assertThatExceptionOfType(CoreCCInvalidDataException.class)
+                .isThrownBy(() -> service.openUrlStream(url))
+                .withMessage("Cannot download file resource from URL '" + url + "'");
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.download.errors").tag("host", "localhost").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void downloadIsTimedPerHostTest() throws IOException {
+        final UrlValidationService service = getService(List.of(baseUrl), DOWNLOAD_CONFIGURATION);
+
+        try (InputStream inputStream = service.openUrlStream(baseUrl + "raorequest.xml")) {
+            Assertions.assertThat(inputStream.readAllBytes()).isEqualTo(readRaoRequest());
+        }
+
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.download.duration").tag("host", "localhost").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionIsReusedOnceDownloadIsConsumedTest() throws IOException {
+        final UrlValidationService service = getService(List.of(baseUrl), DOWNLOAD_CONFIGURATION);
+
+        for (int i = 0; i < 3; i++) {
+            try (InputStream inputStream = service.openUrlStream(baseUrl + "raorequest.xml")) {
+                inputStream.readAllBytes();
+            }
+        }
+
+        Assertions.assertThat(connectionManagers.getFirst().getTotalStats().getAvailable()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tag("httpclient", "download").tag("state", "available").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void downloadExceedingMaxSizeFailsTest() throws IOException {
+        final UrlValidationService service = getService(List.of(baseUrl), getDownloadConfiguration(Duration.ofSeconds(1), Duration.ofMinutes(1), DataSize.ofBytes(10)));
+
+        try (InputStream inputStream = service.openUrlStream(baseUrl + "raorequest.xml")) {
+            Assertions.assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(inputStream::readAllBytes)
+                    .withMessageEndingWith("exceeded its maximum size of 10 bytes");
+        }
+
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.download.errors").tag("host", "localhost").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.find("core-cc-adapter.download.duration").timer()).isNull();
+    }
+
+    @Test
+    void blockedReadIsAbortedAtTotalTimeoutTest() throws IOException {
+        // The read timeout alone would let the read block for a minute
+        final UrlValidationService service = getService(List.of(baseUrl), getDownloadConfiguration(Duration.ofMinutes(1), Duration.ofMillis(500), DataSize.ofMegabytes(1)));
+        final long startTime = System.nanoTime();
+
+        try (InputStream inputStream = service.openUrlStream(baseUrl + "stalled.xml")) {
+            Assertions.assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(inputStream::readAllBytes)
+                    .withMessageEndingWith("exceeded its total timeout");
+        }
+
+        Assertions.assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(10));
+        Assertions.assertThat(meterRegistry.get("core-cc-adapter.download.errors").tag("host", "localhost").counter().count()).isEqualTo(1);
+    }
+
+    private UrlValidationService getService(final List<String> whitelist, final UrlDownloadConfiguration downloadConfiguration) {
+        final CoreCCAdapterConfiguration configuration = Mockito.mock(CoreCCAdapterConfiguration.class);
+        Mockito.when(configuration.whitelist()).thenReturn(whitelist);
+        final UrlDownloadClientBeans urlDownloadClientBeans = new UrlDownloadClientBeans();
+        final PoolingHttpClientConnectionManager connectionManager = urlDownloadClientBeans.downloadConnectionManager(downloadConfiguration, meterRegistry);
+        connectionManagers.add(connectionManager);
+        final CloseableHttpClient httpClient = urlDownloadClientBeans.downloadHttpClient(connectionManager, downloadConfiguration);
+        final UrlValidationService service = new UrlValidationService(configuration, downloadConfiguration, httpClient, meterRegistry);
+        services.add(service);
+        return service;
+    }
+
+    private static UrlDownloadConfiguration getDownloadConfiguration(final Duration readTimeout, final Duration totalTimeout, final DataSize maxSize) {
+        return new UrlDownloadConfiguration(Duration.ofSeconds(1), readTimeout, totalTimeout, maxSize, 2, Duration.ofSeconds(30));
+    }
+
+    private void respondThenStall(final HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        final OutputStream responseBody = exchange.getResponseBody();
+        responseBody.write("<RequestMessage>".getBytes());
+        responseBody.flush();
+        try {
+            releaseStalledResponses.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.close();
+    }
+
+    private static void respond(final HttpExchange exchange, final int code, final byte[] body) throws IOException {
+        exchange.sendResponseHeaders(code, body.length == 0 ? -1 : body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private byte[] readRaoRequest() throws IOException {
+        try (InputStream inputStream = Objects.requireNonNull(getClass().getResourceAsStream("/raorequest/raorequest.xml"))) {
+            return inputStream.readAllBytes();
+        }
     }
 }
@@ -8,6 +8,10 @@ package com.farao_community.farao.core_cc.adapter.util;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -30,4 +34,23 @@ class LoggingUtilTest {
         final String input = "First element, Second element, Third element";
         Assertions.assertThat(LoggingUtil.sanifyString(input)).isEqualTo(input);
     }
+
+    @Test
+    void continuationLogsWithContextOfWrappingThread() {
+        MDC.put("gridcapa-task-id", "task-id");
+        final Function<Object, String> continuation;
+        try {
+            continuation = LoggingUtil.withLoggingContext(value -> MDC.get("gridcapa-task-id"));
+        } finally {
+            MDC.remove("gridcapa-task-id");
+        }
+
+        final String taskIdInOtherThread = CompletableFuture.supplyAsync(() -> {
+            final String taskId = continuation.apply(null);
+            Assertions.assertThat(MDC.get("gridcapa-task-id")).isNull();
+            return taskId;
+        }).join();
+
+        Assertions.assertThat(taskIdInOtherThread).isEqualTo("task-id");
+    }
 }